@@ -0,0 +1,40 @@
+package com.benchmark.jmh;
+
+import com.algorithms.ComponentTS;
+import com.algorithms.CondensationGraph;
+import com.algorithms.FusedComponentAnalyzer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Condensation building, component ordering and the fused SCC + condensation + order pass.
+ */
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xmx8g"})
+public class CondensationBenchmarks {
+
+    @Benchmark
+    public CondensationGraph condensationGraph(GraphState state) {
+        return new CondensationGraph(state.graph, state.components);
+    }
+
+    @Benchmark
+    public ComponentTS.ComponentTopoResult componentTopologicalSort(GraphState state) {
+        return new ComponentTS(state.condensation).performSort();
+    }
+
+    @Benchmark
+    public FusedComponentAnalyzer.Result fusedPipeline(GraphState state) {
+        return new FusedComponentAnalyzer(state.graph).analyze();
+    }
+}
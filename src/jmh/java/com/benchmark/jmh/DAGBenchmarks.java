@@ -0,0 +1,55 @@
+package com.benchmark.jmh;
+
+import com.algorithms.DAG;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * DAG path queries on the condensation of each family, from the component of vertex 0.
+ * Queries share the prebuilt {@link GraphState#dag}; {@link #construction} measures
+ * building a DAG and its topological order separately.
+ */
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xmx8g"})
+public class DAGBenchmarks {
+
+    @Benchmark
+    public int[] construction(GraphState state) {
+        return new DAG(state.condensed).getTopologicalOrder();
+    }
+
+    @Benchmark
+    public DAG.PathResult shortestPaths(GraphState state) {
+        return state.dag.computeShortestPaths(state.condensedSource);
+    }
+
+    @Benchmark
+    public DAG.PathResult longestPaths(GraphState state) {
+        return state.dag.computeLongestPaths(state.condensedSource);
+    }
+
+    @Benchmark
+    public DAG.Workspace shortestPathsWorkspace(GraphState state) {
+        return state.dag.computeShortestPaths(state.condensedSource, DAG.Workspace.forCurrentThread());
+    }
+
+    @Benchmark
+    public DAG.Workspace reachableShortestPathsWorkspace(GraphState state) {
+        return state.dag.computeReachableShortestPaths(state.condensedSource, DAG.Workspace.forCurrentThread());
+    }
+
+    @Benchmark
+    public DAG.CriticalPathResult criticalPath(GraphState state) {
+        return state.dag.findCriticalPath();
+    }
+}
@@ -0,0 +1,103 @@
+package com.benchmark.jmh;
+
+import com.algorithms.DAGExecutor;
+import com.algorithms.ParallelKahnTopologicalSort;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link DAGExecutor} against a level-synchronous scheduler that waits for each whole topological
+ * level before starting the next, on the condensation DAG of each family. Every component is a task
+ * that sleeps up to {@code maxSleepMicros} (I/O-bound work); both run on virtual threads with the
+ * same concurrency limit.
+ */
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xmx8g"})
+public class ExecutorBenchmarks {
+
+    @State(Scope.Benchmark)
+    public static class TaskState {
+        @Param({"16", "256"})
+        public int maxConcurrency;
+
+        /** 0 measures pure scheduling overhead. */
+        @Param({"0", "2000"})
+        public int maxSleepMicros;
+
+        public int[] sleepMicros;
+        public DAGExecutor executor;
+        public ParallelKahnTopologicalSort.LevelTopoResult levels;
+
+        @Setup(Level.Trial)
+        public void setUp(GraphState state) {
+            int c = state.condensed.getNumVertices();
+            sleepMicros = new int[c];
+            if (maxSleepMicros > 0) {
+                Random random = new Random(42L);
+                for (int v = 0; v < c; v++) {
+                    sleepMicros[v] = random.nextInt(maxSleepMicros);
+                }
+            }
+            executor = new DAGExecutor(state.condensed, maxConcurrency);
+            levels = new ParallelKahnTopologicalSort(state.condensed).computeTopoOrder();
+        }
+    }
+
+    @Benchmark
+    public DAGExecutor.Report executor(TaskState tasks) throws InterruptedException {
+        int[] sleepMicros = tasks.sleepMicros;
+        return tasks.executor.run(vertex -> work(sleepMicros[vertex]));
+    }
+
+    @Benchmark
+    public int levelBarrier(TaskState tasks) throws InterruptedException {
+        ParallelKahnTopologicalSort.LevelTopoResult levels = tasks.levels;
+        Semaphore permits = new Semaphore(tasks.maxConcurrency);
+        try (ExecutorService threads = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int level = 0; level < levels.getLevelCount(); level++) {
+                List<Callable<Object>> batch = new ArrayList<>();
+                for (int v : levels.getLevelVertices(level)) {
+                    batch.add(() -> {
+                        permits.acquire();
+                        try {
+                            return work(tasks.sleepMicros[v]);
+                        } finally {
+                            permits.release();
+                        }
+                    });
+                }
+                threads.invokeAll(batch);
+            }
+        }
+        return levels.getLevelCount();
+    }
+
+    private static Object work(int micros) throws InterruptedException {
+        if (micros > 0) {
+            Thread.sleep(micros / 1_000, (micros % 1_000) * 1_000);
+        }
+        return null;
+    }
+}
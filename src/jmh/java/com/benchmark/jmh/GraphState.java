@@ -0,0 +1,54 @@
+package com.benchmark.jmh;
+
+import com.algorithms.CondensationGraph;
+import com.algorithms.DAG;
+import com.algorithms.SCC;
+import com.benchmark.BenchmarkGraphs;
+import com.model.Adjacency;
+import com.model.CSRGraph;
+import com.model.Graph;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.List;
+
+/**
+ * Shared benchmark input: one generated graph per (family, edges, representation)
+ * plus its SCCs, condensation DAG and a {@link DAG} over it with the topological order
+ * already computed, built once per trial.
+ */
+@State(Scope.Benchmark)
+public class GraphState {
+
+    @Param({"chain", "random_sparse", "dense_dag", "many_small_scc", "giant_scc"})
+    public String family;
+
+    @Param({"1000", "10000", "100000", "1000000", "10000000"})
+    public int edges;
+
+    /** "csr" for {@link CSRGraph}, "list" for {@link Graph}. */
+    @Param({"csr"})
+    public String representation;
+
+    public Adjacency graph;
+    public List<List<Integer>> components;
+    public CondensationGraph condensation;
+    public Graph condensed;
+    public int condensedSource;
+    public DAG dag;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Graph generated = BenchmarkGraphs.family(family, edges, 42L);
+        graph = "list".equals(representation) ? generated : CSRGraph.fromGraph(generated);
+        components = new SCC(graph).computeSCCs().getComponents();
+        condensation = new CondensationGraph(graph, components);
+        condensed = condensation.getCondensationGraph();
+        condensedSource = condensation.getComponentId(0);
+        dag = new DAG(condensed);
+        dag.getTopologicalOrder();
+    }
+}
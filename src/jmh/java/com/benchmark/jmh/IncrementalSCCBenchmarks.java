@@ -0,0 +1,102 @@
+package com.benchmark.jmh;
+
+import com.algorithms.IncrementalSCC;
+import com.model.Adjacency;
+import com.model.Graph;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Edge insertions into an {@link IncrementalSCC} over a fresh copy of each family, scored per update.
+ * {@code backPercent} of the inserted edges point backwards in the topological order of the
+ * condensation and may close cycles; the rest point forwards and never merge components.
+ * Compare with {@link CondensationBenchmarks#fusedPipeline} for the cost of a full recompute.
+ */
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xmx8g"})
+public class IncrementalSCCBenchmarks {
+    private static final int UPDATES = 10_000;
+
+    @State(Scope.Benchmark)
+    public static class UpdateState {
+        @Param({"0", "1", "5", "20"})
+        public int backPercent;
+
+        public int[] from;
+        public int[] to;
+        public int[] weight;
+        public IncrementalSCC incremental;
+
+        @Setup(Level.Trial)
+        public void setUpStream(GraphState state) {
+            int[] position = new int[state.condensation.getComponentCount()];
+            int[] order = state.dag.getTopologicalOrder();
+            for (int i = 0; i < order.length; i++) {
+                position[order[i]] = i;
+            }
+
+            int n = state.graph.getNumVertices();
+            Random random = new Random(backPercent);
+            from = new int[UPDATES];
+            to = new int[UPDATES];
+            weight = new int[UPDATES];
+            for (int k = 0; k < UPDATES; k++) {
+                int u = random.nextInt(n);
+                int v = random.nextInt(n);
+                boolean backward = position[state.condensation.getComponentId(u)]
+                        > position[state.condensation.getComponentId(v)];
+                if (backward != random.nextInt(100) < backPercent) {
+                    int swap = u;
+                    u = v;
+                    v = swap;
+                }
+                from[k] = u;
+                to[k] = v;
+                weight[k] = 1 + random.nextInt(10);
+            }
+        }
+
+        /** Insertions mutate the graph, so every invocation starts from a fresh copy. */
+        @Setup(Level.Invocation)
+        public void setUpGraph(GraphState state) {
+            incremental = new IncrementalSCC(copy(state.graph));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(UPDATES)
+    public int insertEdges(UpdateState updates) {
+        int merges = 0;
+        for (int k = 0; k < UPDATES; k++) {
+            if (updates.incremental.addEdge(updates.from[k], updates.to[k], updates.weight[k]) > 0) merges++;
+        }
+        return merges;
+    }
+
+    private static Graph copy(Adjacency graph) {
+        Graph copy = new Graph(graph.getNumVertices(), true);
+        for (int u = 0; u < graph.getNumVertices(); u++) {
+            for (int i = 0, degree = graph.outDegree(u); i < degree; i++) {
+                copy.addEdge(u, graph.target(u, i), graph.weight(u, i));
+            }
+        }
+        return copy;
+    }
+}
@@ -0,0 +1,56 @@
+package com.benchmark.jmh;
+
+import com.algorithms.ListScheduler;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * List scheduling of the condensation of each family on {@code k} workers, with edge weights
+ * as lags and random task durations of 1 to 10. {@link #construction} measures the
+ * scheduler setup (lags and critical-path priorities) separately.
+ */
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xmx8g"})
+public class ListSchedulerBenchmarks {
+
+    @State(Scope.Benchmark)
+    public static class SchedulerState {
+        @Param({"1", "4", "16", "64", "256", "1024"})
+        public int k;
+
+        public int[] durations;
+        public ListScheduler scheduler;
+
+        @Setup(Level.Trial)
+        public void setUp(GraphState state) {
+            durations = new Random(7).ints(state.condensation.getComponentCount(), 1, 11).toArray();
+            scheduler = new ListScheduler(state.condensation, durations);
+        }
+    }
+
+    @Benchmark
+    public ListScheduler construction(GraphState state, SchedulerState scheduler) {
+        return new ListScheduler(state.condensation, scheduler.durations);
+    }
+
+    @Benchmark
+    public ListScheduler.Schedule schedule(SchedulerState scheduler) {
+        return scheduler.scheduler.schedule(scheduler.k);
+    }
+}
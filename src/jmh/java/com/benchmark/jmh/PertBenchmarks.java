@@ -0,0 +1,58 @@
+package com.benchmark.jmh;
+
+import com.algorithms.PertSimulation;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Monte Carlo PERT over the condensation DAG of each family, one {@link ForkJoinPool} per worker count.
+ */
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xmx8g"})
+public class PertBenchmarks {
+
+    @State(Scope.Benchmark)
+    public static class PoolState {
+        @Param({"1", "2", "4", "8"})
+        public int workers;
+
+        @Param({"1000"})
+        public int trials;
+
+        public ForkJoinPool pool;
+        public PertSimulation simulation;
+
+        @Setup(Level.Trial)
+        public void setUp(GraphState state) {
+            pool = new ForkJoinPool(workers);
+            simulation = new PertSimulation(state.dag, PertSimulation.Distribution.PERT_BETA, 0.8, 1.5, pool);
+        }
+
+        @TearDown(Level.Trial)
+        public void tearDown() {
+            pool.shutdown();
+        }
+    }
+
+    @Benchmark
+    public PertSimulation.SimulationResult simulate(PoolState pool) {
+        return pool.simulation.run(pool.trials, 42L);
+    }
+}
@@ -0,0 +1,144 @@
+package com.benchmark.jmh;
+
+import com.algorithms.CondensationGraph;
+import com.algorithms.GrailIndex;
+import com.algorithms.ReachabilityIndex;
+import com.algorithms.TransitiveClosureIndex;
+import com.model.CSRGraph;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Reachability queries between random vertex pairs of each family: BFS over the condensation
+ * per query, GRAIL interval labels and the bitset transitive closure. Query scores are per query;
+ * {@link #grailBuild} measures building the labels separately.
+ */
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xmx8g"})
+public class ReachabilityBenchmarks {
+    private static final int QUERIES = 20_000;
+    private static final int MAX_CLOSURE_COMPONENTS = 50_000;
+
+    /**
+     * Random query pairs and the indexes built over the condensation of {@link GraphState}.
+     * The closure is quadratic in the component count and is only built when it fits.
+     */
+    @State(Scope.Benchmark)
+    public static class QueryState {
+        public int[] from;
+        public int[] to;
+        public Bfs bfs;
+        public GrailIndex grail;
+        public TransitiveClosureIndex closure;
+
+        @Setup(Level.Trial)
+        public void setUp(GraphState state) {
+            int n = state.graph.getNumVertices();
+            Random random = new Random(42L);
+            from = new int[QUERIES];
+            to = new int[QUERIES];
+            for (int q = 0; q < QUERIES; q++) {
+                from[q] = random.nextInt(n);
+                to[q] = random.nextInt(n);
+            }
+            bfs = new Bfs(CSRGraph.fromGraph(state.condensed), state.condensation);
+            grail = new GrailIndex(state.condensation);
+            closure = state.condensation.getComponentCount() <= MAX_CLOSURE_COMPONENTS
+                    ? new TransitiveClosureIndex(state.condensation) : null;
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(QUERIES)
+    public int bfs(QueryState queries) {
+        int positive = 0;
+        for (int q = 0; q < QUERIES; q++) {
+            if (queries.bfs.reaches(queries.from[q], queries.to[q])) positive++;
+        }
+        return positive;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(QUERIES)
+    public int grail(QueryState queries) {
+        return count(queries.grail, queries);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(QUERIES)
+    public int transitiveClosure(QueryState queries) {
+        if (queries.closure == null) {
+            throw new IllegalStateException("Condensation too large for the transitive closure");
+        }
+        return count(queries.closure, queries);
+    }
+
+    @Benchmark
+    public GrailIndex grailBuild(GraphState state) {
+        return new GrailIndex(state.condensation);
+    }
+
+    private static int count(ReachabilityIndex index, QueryState queries) {
+        int positive = 0;
+        for (int q = 0; q < QUERIES; q++) {
+            if (index.reaches(queries.from[q], queries.to[q])) positive++;
+        }
+        return positive;
+    }
+
+    /**
+     * Baseline: BFS over the condensation per query, with reused arrays.
+     */
+    public static class Bfs {
+        private final CSRGraph dag;
+        private final CondensationGraph condensation;
+        private final int[] seen;
+        private final int[] queue;
+        private int stamp;
+
+        Bfs(CSRGraph dag, CondensationGraph condensation) {
+            this.dag = dag;
+            this.condensation = condensation;
+            this.seen = new int[dag.getNumVertices()];
+            this.queue = new int[dag.getNumVertices()];
+        }
+
+        boolean reaches(int fromVertex, int toVertex) {
+            int source = condensation.getComponentId(fromVertex);
+            int target = condensation.getComponentId(toVertex);
+            if (source == target) return true;
+            stamp++;
+            int head = 0, tail = 0;
+            queue[tail++] = source;
+            seen[source] = stamp;
+            while (head < tail) {
+                int u = queue[head++];
+                for (int i = 0, degree = dag.outDegree(u); i < degree; i++) {
+                    int v = dag.target(u, i);
+                    if (v == target) return true;
+                    if (seen[v] != stamp) {
+                        seen[v] = stamp;
+                        queue[tail++] = v;
+                    }
+                }
+            }
+            return false;
+        }
+    }
+}
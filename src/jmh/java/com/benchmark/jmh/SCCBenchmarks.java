@@ -0,0 +1,34 @@
+package com.benchmark.jmh;
+
+import com.algorithms.ParallelSCC;
+import com.algorithms.SCC;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Strongly connected components: sequential Tarjan and parallel forward-backward.
+ */
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xmx8g"})
+public class SCCBenchmarks {
+
+    @Benchmark
+    public SCC.SCCResult tarjan(GraphState state) {
+        return new SCC(state.graph).computeSCCs();
+    }
+
+    @Benchmark
+    public SCC.SCCResult parallelForwardBackward(GraphState state) {
+        return new ParallelSCC(state.graph).computeSCCs();
+    }
+}
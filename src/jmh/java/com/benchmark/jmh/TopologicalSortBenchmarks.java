@@ -0,0 +1,40 @@
+package com.benchmark.jmh;
+
+import com.algorithms.DFSTopologicalSort;
+import com.algorithms.KahnTopologicalSort;
+import com.algorithms.ParallelKahnTopologicalSort;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Topological sorts on the condensation DAG of each family.
+ */
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xmx8g"})
+public class TopologicalSortBenchmarks {
+
+    @Benchmark
+    public KahnTopologicalSort.TopoResult kahn(GraphState state) {
+        return new KahnTopologicalSort(state.condensed).computeTopoOrder();
+    }
+
+    @Benchmark
+    public KahnTopologicalSort.TopoResult parallelKahn(GraphState state) {
+        return new ParallelKahnTopologicalSort(state.condensed).computeTopoOrder();
+    }
+
+    @Benchmark
+    public KahnTopologicalSort.TopoResult dfs(GraphState state) {
+        return new DFSTopologicalSort(state.condensed).performSort();
+    }
+}
@@ -3,11 +3,23 @@ package com;
 import com.algorithms.ComponentTS;
 import com.algorithms.CondensationGraph;
 import com.algorithms.DAG;
+import com.algorithms.FusedComponentAnalyzer;
+import com.algorithms.ParallelSCC;
 import com.algorithms.SCC;
+import com.model.Adjacency;
+import com.model.CSRGraph;
 import com.model.Graph;
+import com.utils.AnalysisCache;
+import com.utils.CachedAnalysis;
 import com.utils.GraphLoader;
+import com.utils.GraphSnapshot;
+import com.utils.Metrics;
+import com.utils.SnapshotConverter;
 
 import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.util.*;
 
 /**
@@ -50,128 +62,252 @@ public class Main {
         System.out.println(" Dataset: " + filePath);
         System.out.println("--------------------------------------------------");
 
-        GraphLoader.GraphData data = GraphLoader.loadFromFile(filePath);
-        Graph graph = data.graph;
-        int originalSource = data.sourceVertex;
+        // Prefer an up-to-date binary snapshot (see SnapshotConverter) over re-parsing JSON
+        Adjacency graph;
+        int originalSource;
+        String weightType;
+        Path snapshot = SnapshotConverter.snapshotPathFor(Paths.get(filePath));
+        if (isSnapshotFresh(snapshot, Paths.get(filePath))) {
+            GraphSnapshot.SnapshotData data = GraphSnapshot.open(snapshot);
+            graph = data.graph;
+            originalSource = data.sourceVertex;
+            weightType = data.weightType;
+            System.out.println("Loaded binary snapshot: " + snapshot);
+        } else {
+            GraphLoader.GraphData data = GraphLoader.loadFromFile(filePath);
+            graph = data.graph;
+            originalSource = data.sourceVertex;
+            weightType = data.weightType;
+        }
 
         System.out.printf(Locale.US, "Vertices: %-5d | Directed: %-5b | Source: %-5d%n",
                 graph.getNumVertices(), graph.isDirected(), originalSource);
-        System.out.println("Weight model: " + data.weightType + " (edge weights = task duration in hours)");
+        System.out.println("Weight model: " + weightType + " (edge weights = task duration in hours)");
         System.out.println();
 
-        // 1) Tarjan SCC
-        System.out.println("Step 1: Strongly Connected Components (Tarjan)");
-        SCC sccSolver = new SCC(graph);
-        SCC.SCCResult sccResult = sccSolver.computeSCCs();
+        // Steps 1-3: by default one fused pass (Tarjan + one edge sweep) produces the SCCs,
+        // the condensation and the component order; -Dscc.parallel=true runs them separately
+        // with the parallel forward-backward SCC.
+        boolean parallelScc = Boolean.getBoolean("scc.parallel");
+        String sccAlgorithm = parallelScc ? "parallel forward-backward" : "Tarjan";
+
+        // Serve unchanged inputs from the analysis cache (enabled with -Danalysis.cache.dir=<dir>)
+        AnalysisCache cache = openCache();
+        String cacheKey = null;
+        if (cache != null) {
+            cacheKey = AnalysisCache.contentHash(graph, weightType, originalSource,
+                    parallelScc ? "parallel" : "fused");
+            CachedAnalysis cached = cache.get(cacheKey);
+            if (cached != null) {
+                System.out.println("Served from analysis cache (key " + cacheKey.substring(0, 12) + ")");
+                printAnalysis(cached, sccAlgorithm, originalSource, null, null, null, null);
+                System.out.println();
+                System.out.println("Dataset processed: " + filePath);
+                System.out.println("--------------------------------------------------");
+                return;
+            }
+        }
+
+        SCC.SCCResult sccResult;
+        CondensationGraph condensation;
+        ComponentTS.ComponentTopoResult topoRes;
+        if (parallelScc) {
+            sccResult = new ParallelSCC(graph).computeSCCs();
+            condensation = new CondensationGraph(graph, sccResult.getComponents());
+            topoRes = new ComponentTS(condensation).performSort();
+        } else {
+            FusedComponentAnalyzer.Result fused = new FusedComponentAnalyzer(graph).analyze();
+            sccResult = fused.getSCCResult();
+            condensation = fused.getCondensation();
+            topoRes = fused.getTopoResult();
+        }
 
         List<List<Integer>> components = sccResult.getComponents();
-        System.out.println("Total SCCs: " + components.size());
+        Graph condensed = condensation.getCondensationGraph();
+        int condensedSource = condensation.getComponentId(originalSource);
+
+        // 4-5) If DAG, run shortest/longest path analysis using the condensedSource
+        DAG.PathResult shortest = null;
+        DAG.PathResult longest = null;
+        DAG.CriticalPathResult critical = null;
+        if (topoRes.isDAG()) {
+            // Reuse the step 3 component order instead of sorting the condensation again
+            DAG dag = new DAG(condensed, topoRes.getComponentOrder());
+            shortest = dag.computeShortestPaths(condensedSource);
+            longest = dag.computeLongestPaths(condensedSource);
+            critical = dag.findCriticalPath();
+        }
+
+        CachedAnalysis analysis = toCachedAnalysis(components, condensed, topoRes, condensedSource,
+                shortest, longest, critical);
+        printAnalysis(analysis, sccAlgorithm, originalSource, sccResult.getMetrics(), topoRes.getMetrics(),
+                shortest != null ? shortest.getMetrics() : null, longest != null ? longest.getMetrics() : null);
+
+        if (cache != null) {
+            cache.put(cacheKey, analysis);
+        }
+
+        System.out.println();
+        System.out.println("Dataset processed: " + filePath);
+        System.out.println("--------------------------------------------------");
+    }
+
+    /**
+     * Opens the analysis cache configured by -Danalysis.cache.dir (and optionally
+     * -Danalysis.cache.maxBytes, default 256 MB), or returns null when caching is off.
+     */
+    private static AnalysisCache openCache() throws IOException {
+        String dir = System.getProperty("analysis.cache.dir");
+        if (dir == null || dir.isEmpty()) {
+            return null;
+        }
+        long maxBytes = Long.getLong("analysis.cache.maxBytes", 256L << 20);
+        return new AnalysisCache(Paths.get(dir), maxBytes);
+    }
+
+    /**
+     * Collects the results of one pipeline run into primitive arrays for the cache.
+     */
+    private static CachedAnalysis toCachedAnalysis(List<List<Integer>> components, Graph condensed,
+                                                   ComponentTS.ComponentTopoResult topoRes, int condensedSource,
+                                                   DAG.PathResult shortest, DAG.PathResult longest,
+                                                   DAG.CriticalPathResult critical) {
+        int[][] componentArrays = new int[components.size()][];
         for (int i = 0; i < components.size(); i++) {
-            List<Integer> comp = components.get(i);
-            System.out.println("  Component [" + i + "] -> " + comp + " (size: " + comp.size() + ")");
+            componentArrays[i] = toIntArray(components.get(i));
+        }
+        int[] none = new int[0];
+        return new CachedAnalysis(componentArrays, CSRGraph.fromGraph(condensed), topoRes.isDAG(),
+                toIntArray(topoRes.getComponentOrder()), condensedSource,
+                shortest != null ? shortest.getDistances() : none,
+                shortest != null ? shortest.getParents() : none,
+                longest != null ? longest.getDistances() : none,
+                longest != null ? longest.getParents() : none,
+                critical != null ? toIntArray(critical.getPath()) : none,
+                critical != null ? critical.getTotalLength() : 0,
+                critical != null ? critical.getStart() : -1,
+                critical != null ? critical.getEnd() : -1);
+    }
+
+    private static int[] toIntArray(List<Integer> values) {
+        int[] result = new int[values.size()];
+        for (int i = 0; i < result.length; i++) {
+            result[i] = values.get(i);
         }
-        System.out.printf(Locale.US, "Operations: %d | Time: %.3f ms%n",
-                sccResult.getMetrics().getOperations(),
-                sccResult.getMetrics().getElapsedMillis());
+        return result;
+    }
+
+    /**
+     * Prints the results of steps 1-5, live or served from the cache. Timing lines are
+     * printed only for the metrics that are given (none for a cached analysis).
+     */
+    private static void printAnalysis(CachedAnalysis analysis, String sccAlgorithm, int originalSource,
+                                      Metrics sccMetrics, Metrics topoMetrics,
+                                      Metrics shortestMetrics, Metrics longestMetrics) {
+        // 1) SCC
+        System.out.println("Step 1: Strongly Connected Components (" + sccAlgorithm + ")");
+        int[][] components = analysis.components;
+        System.out.println("Total SCCs: " + components.length);
+        for (int i = 0; i < components.length; i++) {
+            System.out.println("  Component [" + i + "] -> " + Arrays.toString(components[i])
+                    + " (size: " + components[i].length + ")");
+        }
+        printTiming("Operations", sccMetrics);
         System.out.println();
 
-        // 2) Build condensation graph
+        // 2) Condensation graph
         System.out.println("Step 2: Condensation Graph (SCC -> node)");
-        CondensationGraph condensation = new CondensationGraph(graph, components);
-        Graph condensed = condensation.getCondensationGraph();
+        CSRGraph condensed = analysis.condensation;
         System.out.println("Condensed vertices (SCC count): " + condensed.getNumVertices());
         System.out.println("Edges between components:");
         for (int i = 0; i < condensed.getNumVertices(); i++) {
-            List<Graph.Edge> edges = condensed.getEdgesFrom(i);
-            if (!edges.isEmpty()) {
+            if (condensed.outDegree(i) > 0) {
                 List<Integer> targets = new ArrayList<>();
-                for (Graph.Edge e : edges) targets.add(e.getDestination());
+                for (int k = 0; k < condensed.outDegree(i); k++) targets.add(condensed.target(i, k));
                 System.out.println("  SCC[" + i + "] -> " + targets);
             }
         }
-        System.out.println("Is condensation a DAG? " + condensation.isDAG());
+        System.out.println("Is condensation a DAG? " + analysis.isDAG);
         System.out.println();
 
-        // Map original vertices to condensation component id
-        int[] vertexToComp = new int[graph.getNumVertices()];
-        for (int ci = 0; ci < components.size(); ci++) {
-            for (int v : components.get(ci)) {
-                vertexToComp[v] = ci;
-            }
-        }
-        int condensedSource = vertexToComp[originalSource];
+        int condensedSource = analysis.condensedSource;
         System.out.println("Using condensed source component: " + condensedSource +
                 " (contains original vertex " + originalSource + ")");
         System.out.println();
 
         // 3) Topological sort on condensation graph
         System.out.println("Step 3: Topological Sort (components)");
-        ComponentTS componentSorter = new ComponentTS(condensation);
-        ComponentTS.ComponentTopoResult topoRes = componentSorter.performSort();
-
-        System.out.println("Is DAG: " + topoRes.isDAG());
-        System.out.println("Component order: " + topoRes.getComponentOrder());
-        System.out.println("Derived task order: " + topoRes.getTaskOrder());
-        System.out.printf(Locale.US, "Operations: %d | Time: %.3f ms%n",
-                topoRes.getMetrics().getOperations(),
-                topoRes.getMetrics().getElapsedMillis());
+        System.out.println("Is DAG: " + analysis.isDAG);
+        System.out.println("Component order: " + Arrays.toString(analysis.componentOrder));
+        List<Integer> taskOrder = new ArrayList<>();
+        for (int comp : analysis.componentOrder) {
+            for (int v : components[comp]) taskOrder.add(v);
+        }
+        System.out.println("Derived task order: " + taskOrder);
+        printTiming("Operations", topoMetrics);
         System.out.println();
 
-        // 4) If DAG, run shortest/longest path analysis using the condensedSource
-        if (topoRes.isDAG()) {
-            System.out.println("Step 4: Path analysis on DAG (from condensed source " + condensedSource + ")");
-            DAG dag = new DAG(condensed);
-
-            // Shortest paths
-            DAG.PathResult shortest = dag.computeShortestPaths(condensedSource);
-            System.out.println();
-            System.out.println("Shortest distances from component " + condensedSource + ":");
-            System.out.println("--------------------------------------------------");
-            System.out.printf(Locale.US, "%-12s %-12s %-20s%n", "Destination", "Distance", "Path");
-            System.out.println("--------------------------------------------------");
-            int[] dist = shortest.getDistances();
-            for (int i = 0; i < dist.length; i++) {
-                if (dist[i] == Integer.MAX_VALUE) {
-                    System.out.printf(Locale.US, "%-12d %-12s %-20s%n", i, "INF", "[]");
-                } else {
-                    List<Integer> route = shortest.reconstructPath(i); // renamed local variable
-                    System.out.printf(Locale.US, "%-12d %-12d %-20s%n", i, dist[i], route);
-                }
-            }
-            System.out.printf(Locale.US, "Relaxations: %d | Time: %.3f ms%n",
-                    shortest.getMetrics().getOperations(),
-                    shortest.getMetrics().getElapsedMillis());
-
-            // Longest paths
-            System.out.println();
-            System.out.println("Longest distances from component " + condensedSource + ":");
-            DAG.PathResult longest = dag.computeLongestPaths(condensedSource);
-            int[] longDist = longest.getDistances();
-            for (int i = 0; i < longDist.length; i++) {
-                if (longDist[i] == Integer.MIN_VALUE) {
-                    System.out.println("  To " + i + ": -INF (unreachable)");
-                } else {
-                    List<Integer> route = longest.reconstructPath(i); // renamed local variable
-                    System.out.println("  To " + i + ": " + longDist[i] + " | Path " + route);
-                }
-            }
-            System.out.printf(Locale.US, "Relaxations: %d | Time: %.3f ms%n",
-                    longest.getMetrics().getOperations(),
-                    longest.getMetrics().getElapsedMillis());
-            System.out.println();
-
-            // 5) Critical path
-            System.out.println("Step 5: Critical Path");
-            DAG.CriticalPathResult critical = dag.findCriticalPath();
-            System.out.println("Critical path: " + critical.getPath());
-            System.out.println("Length: " + critical.getTotalLength());
-            System.out.println("From component " + critical.getStart() + " to " + critical.getEnd());
-        } else {
+        if (!analysis.isDAG) {
             System.out.println("Skipping path analysis: condensation graph is not a DAG.");
+            return;
         }
 
+        // 4) Shortest/longest paths from the condensedSource
+        System.out.println("Step 4: Path analysis on DAG (from condensed source " + condensedSource + ")");
+        DAG.PathResult shortest = new DAG.PathResult(analysis.shortestDistances, analysis.shortestParents,
+                null, false);
         System.out.println();
-        System.out.println("Dataset processed: " + filePath);
+        System.out.println("Shortest distances from component " + condensedSource + ":");
+        System.out.println("--------------------------------------------------");
+        System.out.printf(Locale.US, "%-12s %-12s %-20s%n", "Destination", "Distance", "Path");
         System.out.println("--------------------------------------------------");
+        int[] dist = analysis.shortestDistances;
+        for (int i = 0; i < dist.length; i++) {
+            if (dist[i] == Integer.MAX_VALUE) {
+                System.out.printf(Locale.US, "%-12d %-12s %-20s%n", i, "INF", "[]");
+            } else {
+                System.out.printf(Locale.US, "%-12d %-12d %-20s%n", i, dist[i], shortest.reconstructPath(i));
+            }
+        }
+        printTiming("Relaxations", shortestMetrics);
+
+        System.out.println();
+        System.out.println("Longest distances from component " + condensedSource + ":");
+        DAG.PathResult longest = new DAG.PathResult(analysis.longestDistances, analysis.longestParents,
+                null, true);
+        int[] longDist = analysis.longestDistances;
+        for (int i = 0; i < longDist.length; i++) {
+            if (longDist[i] == Integer.MIN_VALUE) {
+                System.out.println("  To " + i + ": -INF (unreachable)");
+            } else {
+                System.out.println("  To " + i + ": " + longDist[i] + " | Path " + longest.reconstructPath(i));
+            }
+        }
+        printTiming("Relaxations", longestMetrics);
+        System.out.println();
+
+        // 5) Critical path
+        System.out.println("Step 5: Critical Path");
+        System.out.println("Critical path: " + Arrays.toString(analysis.criticalPath));
+        System.out.println("Length: " + analysis.criticalLength);
+        System.out.println("From component " + analysis.criticalStart + " to " + analysis.criticalEnd);
+    }
+
+    private static void printTiming(String label, Metrics metrics) {
+        if (metrics != null) {
+            System.out.printf(Locale.US, "%s: %d | Time: %.3f ms%n",
+                    label, metrics.getOperations(), metrics.getElapsedMillis());
+        }
+    }
+
+    /**
+     * A snapshot is used only if it exists and is not older than its JSON source.
+     */
+    private static boolean isSnapshotFresh(Path snapshot, Path json) throws IOException {
+        if (!Files.exists(snapshot)) {
+            return false;
+        }
+        return !Files.exists(json)
+                || Files.getLastModifiedTime(snapshot).compareTo(Files.getLastModifiedTime(json)) >= 0;
     }
 }
\ No newline at end of file
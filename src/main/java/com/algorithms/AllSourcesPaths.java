@@ -0,0 +1,275 @@
+package com.algorithms;
+
+import com.model.Adjacency;
+import com.utils.Metrics;
+
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Batched single-source shortest/longest paths from many sources of one DAG.
+ *
+ * All sweeps share the topological order cached by {@link DAG}, and rows are
+ * computed in parallel on a ForkJoin pool. Results go either into a flat
+ * {@link DistanceMatrix} (rows x V ints) or, when V^2 ints do not fit the heap,
+ * to a {@link RowSink} one row at a time from per-task buffers.
+ *
+ * Time complexity: O(S * (V + E)) work for S sources
+ * Space complexity: O(S * V) for the matrix, O(P * V) for a sink with P workers
+ */
+public class AllSourcesPaths {
+    private static final long MAX_MATRIX_CELLS = Integer.MAX_VALUE - 8;
+
+    private final Adjacency graph;
+    private final int[] order;
+    private final ForkJoinPool pool;
+
+    /**
+     * Creates a batch solver on the common pool.
+     *
+     * @param dag analyzer whose graph and topological order are shared by all rows
+     */
+    public AllSourcesPaths(DAG dag) {
+        this(dag, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Creates a batch solver on the given pool.
+     *
+     * @param dag analyzer whose graph and topological order are shared by all rows
+     * @param pool pool that computes the rows
+     */
+    public AllSourcesPaths(DAG dag, ForkJoinPool pool) {
+        this.graph = dag.getGraph();
+        this.order = dag.getTopologicalOrder();
+        this.pool = pool;
+    }
+
+    /**
+     * Receives one row of distances. Called from pool threads, possibly concurrently
+     * for different rows; the array is reused once the call returns.
+     */
+    public interface RowSink {
+        void accept(int row, int source, int[] distances);
+    }
+
+    /**
+     * Shortest distances from every source into a matrix.
+     *
+     * @param sources source vertices, one row each
+     * @return distances, Integer.MAX_VALUE where unreachable
+     */
+    public DistanceMatrix computeShortest(int[] sources) {
+        return computeMatrix(sources, false);
+    }
+
+    /**
+     * Longest distances from every source into a matrix.
+     *
+     * @param sources source vertices, one row each
+     * @return distances, Integer.MIN_VALUE where unreachable
+     */
+    public DistanceMatrix computeLongest(int[] sources) {
+        return computeMatrix(sources, true);
+    }
+
+    /**
+     * Streams shortest distances from every source to a sink.
+     *
+     * @param sources source vertices, one row each
+     * @param sink receives each row
+     * @return metrics of the whole batch
+     */
+    public Metrics streamShortest(int[] sources, RowSink sink) {
+        return stream(sources, false, sink);
+    }
+
+    /**
+     * Streams longest distances from every source to a sink.
+     *
+     * @param sources source vertices, one row each
+     * @param sink receives each row
+     * @return metrics of the whole batch
+     */
+    public Metrics streamLongest(int[] sources, RowSink sink) {
+        return stream(sources, true, sink);
+    }
+
+    /**
+     * Convenience: all vertices as sources, in ascending order.
+     *
+     * @return 0..V-1
+     */
+    public int[] allVertices() {
+        int[] all = new int[graph.getNumVertices()];
+        for (int v = 0; v < all.length; v++) {
+            all[v] = v;
+        }
+        return all;
+    }
+
+    private DistanceMatrix computeMatrix(int[] sources, boolean longest) {
+        int n = graph.getNumVertices();
+        if ((long) sources.length * n > MAX_MATRIX_CELLS) {
+            throw new IllegalArgumentException(sources.length + " x " + n
+                    + " distances do not fit one array; use a RowSink instead");
+        }
+        int[] cells = new int[sources.length * n];
+        Metrics metrics = new Metrics();
+        LongAdder operations = new LongAdder();
+
+        metrics.startTiming();
+        pool.invoke(new RowTask(sources, 0, sources.length, false, operations,
+                (row, buffer) -> sweep(sources[row], longest, cells, row * n)));
+        metrics.stopTiming();
+        metrics.addOperations(operations.sum());
+
+        return new DistanceMatrix(sources.clone(), n, cells, longest, metrics);
+    }
+
+    private Metrics stream(int[] sources, boolean longest, RowSink sink) {
+        int n = graph.getNumVertices();
+        Metrics metrics = new Metrics();
+        LongAdder operations = new LongAdder();
+
+        metrics.startTiming();
+        pool.invoke(new RowTask(sources, 0, sources.length, true, operations, (row, buffer) -> {
+            long relaxed = sweep(sources[row], longest, buffer, 0);
+            sink.accept(row, sources[row], buffer);
+            return relaxed;
+        }));
+        metrics.stopTiming();
+        metrics.addOperations(operations.sum());
+        return metrics;
+    }
+
+    /**
+     * One single-source sweep over the shared order, writing into {@code out[offset..offset+V)}.
+     *
+     * @return number of edges relaxed
+     */
+    private long sweep(int source, boolean longest, int[] out, int offset) {
+        int unreached = longest ? Integer.MIN_VALUE : Integer.MAX_VALUE;
+        Arrays.fill(out, offset, offset + graph.getNumVertices(), unreached);
+        out[offset + source] = 0;
+        long relaxed = 0;
+
+        for (int u : order) {
+            int du = out[offset + u];
+            if (du == unreached) continue;
+
+            for (int i = 0, degree = graph.outDegree(u); i < degree; i++) {
+                int v = offset + graph.target(u, i);
+                int candidate = du + graph.weight(u, i);
+                if (longest ? candidate > out[v] : candidate < out[v]) {
+                    out[v] = candidate;
+                }
+            }
+            relaxed += graph.outDegree(u);
+        }
+        return relaxed;
+    }
+
+    private interface RowWork {
+        long run(int row, int[] buffer);
+    }
+
+    /**
+     * Splits the rows until each leaf holds a few rows; in buffered mode a leaf
+     * owns one V-sized buffer for all of its rows.
+     */
+    private class RowTask extends RecursiveAction {
+        private final int[] sources;
+        private final int from;
+        private final int to;
+        private final boolean buffered;
+        private final LongAdder operations;
+        private final RowWork work;
+
+        RowTask(int[] sources, int from, int to, boolean buffered, LongAdder operations, RowWork work) {
+            this.sources = sources;
+            this.from = from;
+            this.to = to;
+            this.buffered = buffered;
+            this.operations = operations;
+            this.work = work;
+        }
+
+        @Override
+        protected void compute() {
+            int leafRows = Math.max(1, sources.length / (pool.getParallelism() * 4));
+            if (to - from <= leafRows) {
+                int[] buffer = buffered ? new int[graph.getNumVertices()] : null;
+                for (int row = from; row < to; row++) {
+                    operations.add(work.run(row, buffer));
+                }
+                return;
+            }
+            int mid = (from + to) >>> 1;
+            invokeAll(new RowTask(sources, from, mid, buffered, operations, work),
+                    new RowTask(sources, mid, to, buffered, operations, work));
+        }
+    }
+
+    /**
+     * Row-major matrix of distances, one row per source.
+     */
+    public static class DistanceMatrix {
+        private final int[] sources;
+        private final int numVertices;
+        private final int[] cells;
+        private final boolean longest;
+        private final Metrics metrics;
+
+        public DistanceMatrix(int[] sources, int numVertices, int[] cells, boolean longest, Metrics metrics) {
+            this.sources = sources;
+            this.numVertices = numVertices;
+            this.cells = cells;
+            this.longest = longest;
+            this.metrics = metrics;
+        }
+
+        public int getRowCount() {
+            return sources.length;
+        }
+
+        public int getNumVertices() {
+            return numVertices;
+        }
+
+        public int getSource(int row) {
+            return sources[row];
+        }
+
+        /**
+         * Returns the distance from a row's source to a vertex.
+         *
+         * @param row row index (position in the sources array)
+         * @param vertex destination vertex
+         * @return distance, or the unreachable sentinel
+         */
+        public int get(int row, int vertex) {
+            return cells[row * numVertices + vertex];
+        }
+
+        /**
+         * Returns a copy of one row.
+         *
+         * @param row row index
+         * @return distances from that row's source
+         */
+        public int[] getRow(int row) {
+            return Arrays.copyOfRange(cells, row * numVertices, (row + 1) * numVertices);
+        }
+
+        public boolean isLongest() {
+            return longest;
+        }
+
+        public Metrics getMetrics() {
+            return metrics;
+        }
+    }
+}
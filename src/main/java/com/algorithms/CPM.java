@@ -0,0 +1,276 @@
+package com.algorithms;
+
+import com.model.Adjacency;
+import com.utils.Metrics;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Critical Path Method over the condensation of a task graph.
+ *
+ * Each component is one schedulable unit and an edge (u, v, w) means v may start
+ * w time units after u starts. A forward sweep in topological order gives the
+ * earliest starts and the makespan; a backward sweep gives the latest starts and the
+ * earliest start any successor allows, from which total and free float follow.
+ * Original edges merged into one condensation edge are all lags, so the engine always
+ * works on the {@link CondensationBuilder.WeightPolicy#MAX} condensation, rebuilding it
+ * when it is given another policy. An edge is critical when it has no slack: {@code LS(v) - w == ES(u)}.
+ * Results are kept per component and mapped to original vertices through the
+ * {@link CondensationGraph}. The engine only reads its inputs, so one instance can
+ * compute schedules from several threads.
+ *
+ * Time complexity: O(C + E_c)
+ * Space complexity: O(C + E_c)
+ */
+public class CPM {
+    private final CondensationGraph condensation;
+    private final DAG dag;
+
+    /**
+     * Creates an engine; the components are ordered with {@link ComponentTS}.
+     *
+     * @param condensation SCCs and their DAG
+     */
+    public CPM(CondensationGraph condensation) {
+        this(condensation, new ComponentTS(condensation).performSort());
+    }
+
+    /**
+     * Creates an engine reusing a component order that was already computed.
+     *
+     * @param condensation SCCs and their DAG, under any weight policy
+     * @param topoResult result of {@link ComponentTS#performSort()} on the same components
+     */
+    public CPM(CondensationGraph condensation, ComponentTS.ComponentTopoResult topoResult) {
+        if (!topoResult.isDAG()) {
+            throw new IllegalArgumentException("Component order is not topological");
+        }
+        this.condensation = condensation.withWeightPolicy(CondensationBuilder.WeightPolicy.MAX);
+        this.dag = new DAG(this.condensation.getCondensationGraph(), topoResult.getComponentOrder());
+    }
+
+    /**
+     * Runs the forward and backward sweeps.
+     *
+     * @return earliest/latest starts, floats and critical edges of every component
+     */
+    public Schedule computeSchedule() {
+        Adjacency graph = dag.getGraph();
+        int[] order = dag.getTopologicalOrder();
+        int c = graph.getNumVertices();
+
+        // offset[u] is the index of u's first edge in the per-edge arrays
+        int[] offset = new int[c + 1];
+        for (int u = 0; u < c; u++) {
+            offset[u + 1] = offset[u] + graph.outDegree(u);
+        }
+
+        int[] earliest = new int[c];
+        int[] latest = new int[c];
+        int[] freeFloat = new int[c];
+        boolean[] criticalEdge = new boolean[offset[c]];
+
+        Metrics metrics = new Metrics();
+        metrics.startTiming();
+
+        // Forward: ES(v) = max(0, ES(u) + w) over predecessors
+        int makespan = 0;
+        for (int u : order) {
+            int eu = earliest[u];
+            makespan = Math.max(makespan, eu);
+            for (int i = 0, degree = graph.outDegree(u); i < degree; i++) {
+                int v = graph.target(u, i);
+                earliest[v] = Math.max(earliest[v], eu + graph.weight(u, i));
+            }
+            metrics.addOperations(graph.outDegree(u) + 1);
+        }
+
+        // Backward: LS(u) = min(LS(v) - w), sinks end at the makespan
+        int criticalCount = 0;
+        for (int k = c - 1; k >= 0; k--) {
+            int u = order[k];
+            int degree = graph.outDegree(u);
+            int ls = makespan;
+            int allowed = makespan;
+            if (degree > 0) {
+                ls = Integer.MAX_VALUE;
+                allowed = Integer.MAX_VALUE;
+                for (int i = 0; i < degree; i++) {
+                    int v = graph.target(u, i);
+                    int w = graph.weight(u, i);
+                    ls = Math.min(ls, latest[v] - w);
+                    allowed = Math.min(allowed, earliest[v] - w);
+                }
+            }
+            latest[u] = ls;
+            freeFloat[u] = allowed - earliest[u];
+
+            for (int i = 0; i < degree; i++) {
+                if (latest[graph.target(u, i)] - graph.weight(u, i) == earliest[u]) {
+                    criticalEdge[offset[u] + i] = true;
+                    criticalCount++;
+                }
+            }
+            metrics.addOperations(2L * degree + 1);
+        }
+
+        int[] criticalFrom = new int[criticalCount];
+        int[] criticalTo = new int[criticalCount];
+        for (int u = 0, next = 0; u < c; u++) {
+            for (int i = 0, degree = graph.outDegree(u); i < degree; i++) {
+                if (criticalEdge[offset[u] + i]) {
+                    criticalFrom[next] = u;
+                    criticalTo[next] = graph.target(u, i);
+                    next++;
+                }
+            }
+        }
+        metrics.stopTiming();
+
+        return new Schedule(condensation, makespan, earliest, latest, freeFloat,
+                criticalFrom, criticalTo, metrics);
+    }
+
+    /**
+     * CPM output per component, with vertex-level accessors that look up the
+     * vertex's component first.
+     */
+    public static class Schedule {
+        private final CondensationGraph condensation;
+        private final int makespan;
+        private final int[] earliestStart;
+        private final int[] latestStart;
+        private final int[] freeFloat;
+        private final int[] criticalFrom;
+        private final int[] criticalTo;
+        private final Metrics metrics;
+
+        public Schedule(CondensationGraph condensation, int makespan, int[] earliestStart, int[] latestStart,
+                        int[] freeFloat, int[] criticalFrom, int[] criticalTo, Metrics metrics) {
+            this.condensation = condensation;
+            this.makespan = makespan;
+            this.earliestStart = earliestStart;
+            this.latestStart = latestStart;
+            this.freeFloat = freeFloat;
+            this.criticalFrom = criticalFrom;
+            this.criticalTo = criticalTo;
+            this.metrics = metrics;
+        }
+
+        /**
+         * Latest earliest start over all components, i.e. the length of the critical path.
+         */
+        public int getMakespan() {
+            return makespan;
+        }
+
+        public int getComponentCount() {
+            return earliestStart.length;
+        }
+
+        public int getEarliestStart(int component) {
+            return earliestStart[component];
+        }
+
+        public int getLatestStart(int component) {
+            return latestStart[component];
+        }
+
+        /**
+         * Delay a component can take without moving the makespan.
+         */
+        public int getTotalFloat(int component) {
+            return latestStart[component] - earliestStart[component];
+        }
+
+        /**
+         * Delay a component can take without moving the earliest start of any successor.
+         */
+        public int getFreeFloat(int component) {
+            return freeFloat[component];
+        }
+
+        public boolean isCritical(int component) {
+            return latestStart[component] == earliestStart[component];
+        }
+
+        public int getCriticalEdgeCount() {
+            return criticalFrom.length;
+        }
+
+        public int getCriticalEdgeFrom(int index) {
+            return criticalFrom[index];
+        }
+
+        public int getCriticalEdgeTo(int index) {
+            return criticalTo[index];
+        }
+
+        /**
+         * Earliest start of the component holding an original vertex.
+         *
+         * @param vertex original vertex
+         * @return earliest start
+         */
+        public int getVertexEarliestStart(int vertex) {
+            return earliestStart[condensation.requireComponentId(vertex)];
+        }
+
+        public int getVertexLatestStart(int vertex) {
+            return latestStart[condensation.requireComponentId(vertex)];
+        }
+
+        public int getVertexTotalFloat(int vertex) {
+            return getTotalFloat(condensation.requireComponentId(vertex));
+        }
+
+        public int getVertexFreeFloat(int vertex) {
+            return freeFloat[condensation.requireComponentId(vertex)];
+        }
+
+        /**
+         * Original vertices whose component has zero total float, in ascending order.
+         *
+         * @return critical vertices
+         */
+        public List<Integer> getCriticalVertices() {
+            List<Integer> vertices = new ArrayList<>();
+            for (int component = 0; component < earliestStart.length; component++) {
+                if (isCritical(component)) {
+                    vertices.addAll(condensation.getVerticesInComponent(component));
+                }
+            }
+            vertices.sort(null);
+            return vertices;
+        }
+
+        /**
+         * Tests whether the condensation edge between two original vertices' components
+         * is critical. Vertices of the same component have no such edge.
+         *
+         * @param fromVertex original source vertex
+         * @param toVertex original target vertex
+         * @return true if the component edge exists and has zero slack
+         */
+        public boolean isCriticalEdge(int fromVertex, int toVertex) {
+            int from = condensation.requireComponentId(fromVertex);
+            int to = condensation.requireComponentId(toVertex);
+            // Critical edges are grouped by source component: binary search for the group
+            int lo = 0, hi = criticalFrom.length;
+            while (lo < hi) {
+                int mid = (lo + hi) >>> 1;
+                if (criticalFrom[mid] < from) lo = mid + 1;
+                else hi = mid;
+            }
+            for (int i = lo; i < criticalFrom.length && criticalFrom[i] == from; i++) {
+                if (criticalTo[i] == to) return true;
+            }
+            return false;
+        }
+
+        public Metrics getMetrics() {
+            return metrics;
+        }
+    }
+}
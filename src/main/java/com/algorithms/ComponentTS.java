@@ -1,6 +1,6 @@
 package com.algorithms;
 
-import com.model.Graph;
+import com.model.Adjacency;
 import com.utils.Metrics;
 
 import java.util.*;
@@ -8,10 +8,10 @@ import java.util.*;
 /**
  * Performs topological sorting on a condensation graph (DAG of SCCs).
  * Uses Kahn's algorithm to produce both component and task orderings.
+ * Every call owns its metrics, so a sorter can be reused from several threads.
  */
 public class ComponentTS {
     private final CondensationGraph condensedGraph;
-    private final Metrics metrics;
 
     /**
      * Initializes a topological sorter for the given condensation graph.
@@ -20,7 +20,6 @@ public class ComponentTS {
      */
     public ComponentTS(CondensationGraph condensedGraph) {
         this.condensedGraph = condensedGraph;
-        this.metrics = new Metrics();
     }
 
     /**
@@ -30,17 +29,17 @@ public class ComponentTS {
      *         component and vertex-level orderings
      */
     public ComponentTopoResult performSort() {
-        Graph graph = condensedGraph.getCondensationGraph();
+        Adjacency graph = condensedGraph.getCondensationGraph();
         int numVertices = graph.getNumVertices();
         int[] incomingCount = new int[numVertices];
 
-        metrics.reset();
+        Metrics metrics = new Metrics();
         metrics.startTiming();
 
         // Step 1: Compute in-degrees for each node
         for (int u = 0; u < numVertices; u++) {
-            for (Graph.Edge edge : graph.getEdgesFrom(u)) {
-                incomingCount[edge.getDestination()]++;
+            for (int i = 0, degree = graph.outDegree(u); i < degree; i++) {
+                incomingCount[graph.target(u, i)]++;
                 metrics.incrementOperations();
             }
         }
@@ -62,8 +61,8 @@ public class ComponentTS {
             componentSequence.add(current);
             metrics.incrementOperations();
 
-            for (Graph.Edge edge : graph.getEdgesFrom(current)) {
-                int neighbor = edge.getDestination();
+            for (int i = 0, degree = graph.outDegree(current); i < degree; i++) {
+                int neighbor = graph.target(current, i);
                 incomingCount[neighbor]--;
                 metrics.incrementOperations();
 
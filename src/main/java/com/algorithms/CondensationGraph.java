@@ -1,5 +1,6 @@
 package com.algorithms;
 
+import com.model.Adjacency;
 import com.model.Graph;
 
 import java.util.*;
@@ -11,61 +12,83 @@ import java.util.*;
  * The condensation graph is always a DAG.
  */
 public class CondensationGraph {
-    private final Graph graph;
+    private final Adjacency graph;
     private final List<List<Integer>> components;
-    private final Map<Integer, Integer> vertexToComponent;
+    private final int[] vertexToComponent;
     private final Graph condensation;
+    private final CondensationBuilder.WeightPolicy policy;
+
+    /**
+     * Build condensation graph from SCCs, keeping the first weight of merged edges.
+     * @param originalGraph The original directed graph
+     * @param components List of strongly connected components
+     */
+    public CondensationGraph(Adjacency originalGraph, List<List<Integer>> components) {
+        this(originalGraph, components, CondensationBuilder.WeightPolicy.FIRST);
+    }
 
     /**
      * Build condensation graph from SCCs.
      * @param originalGraph The original directed graph
      * @param components List of strongly connected components
+     * @param policy Weight of an edge that merges several original edges
      */
-    public CondensationGraph(Graph originalGraph, List<List<Integer>> components) {
+    public CondensationGraph(Adjacency originalGraph, List<List<Integer>> components,
+                             CondensationBuilder.WeightPolicy policy) {
         this.graph = originalGraph;
         this.components = components;
-        this.vertexToComponent = new HashMap<>();
+        this.vertexToComponent = new int[originalGraph.getNumVertices()];
+        Arrays.fill(vertexToComponent, -1);
 
         // Map each vertex to its component ID
         for (int i = 0; i < components.size(); i++) {
             for (int vertex : components.get(i)) {
-                vertexToComponent.put(vertex, i);
+                vertexToComponent[vertex] = i;
             }
         }
 
         // Build the condensation graph
-        this.condensation = buildCondensation();
+        this.condensation = CondensationBuilder.build(graph, vertexToComponent, components.size(), policy);
+        this.policy = policy;
     }
 
     /**
-     * Create the condensation DAG.
-     * @return Graph where each node is an SCC
+     * Wrap a condensation that was already built elsewhere (see {@link FusedComponentAnalyzer}).
+     * @param originalGraph The original directed graph
+     * @param components List of strongly connected components
+     * @param vertexToComponent Component ID of every original vertex
+     * @param condensation DAG of components
+     * @param policy Weight policy the condensation was built with
      */
-    private Graph buildCondensation() {
-        int numComponents = components.size();
-        Graph cGraph = new Graph(numComponents, true);
-        Set<String> addedEdges = new HashSet<>();
-
-        // Check each edge in original graph
-        for (int u = 0; u < graph.getNumVertices(); u++) {
-            int compU = vertexToComponent.get(u);
-
-            for (Graph.Edge edge : graph.getEdgesFrom(u)) {
-                int v = edge.getDestination();
-                int compV = vertexToComponent.get(v);
-
-                // Add edge between different components
-                if (compU != compV) {
-                    String edgeKey = compU + "->" + compV;
-                    if (!addedEdges.contains(edgeKey)) {
-                        cGraph.addEdge(compU, compV, edge.getWeight());
-                        addedEdges.add(edgeKey);
-                    }
-                }
-            }
-        }
+    CondensationGraph(Adjacency originalGraph, List<List<Integer>> components,
+                      int[] vertexToComponent, Graph condensation, CondensationBuilder.WeightPolicy policy) {
+        this.graph = originalGraph;
+        this.components = components;
+        this.vertexToComponent = vertexToComponent;
+        this.condensation = condensation;
+        this.policy = policy;
+    }
 
-        return cGraph;
+    /**
+     * Get the weight policy used for merged edges.
+     * @return Policy of this condensation
+     */
+    public CondensationBuilder.WeightPolicy getWeightPolicy() {
+        return policy;
+    }
+
+    /**
+     * Same components with edges rebuilt under another weight policy.
+     * Component IDs are unchanged, so orders and lookups computed on this condensation stay valid.
+     * @param wanted Weight of an edge that merges several original edges
+     * @return This condensation if it already uses the policy, otherwise a rebuilt copy
+     */
+    public CondensationGraph withWeightPolicy(CondensationBuilder.WeightPolicy wanted) {
+        if (wanted == policy) {
+            return this;
+        }
+        Graph rebuilt = CondensationBuilder.build(graph, vertexToComponent, components.size(), wanted);
+        return new CondensationGraph(graph, components, vertexToComponent, rebuilt, wanted);
     }
 
     /**
@@ -82,7 +105,24 @@ public class CondensationGraph {
      * @return Component ID containing this vertex
      */
     public int getComponentId(int vertex) {
-        return vertexToComponent.getOrDefault(vertex, -1);
+        if (vertex < 0 || vertex >= vertexToComponent.length) {
+            return -1;
+        }
+        return vertexToComponent[vertex];
+    }
+
+    /**
+     * Get component ID for a vertex that must belong to the original graph.
+     * @param vertex Original vertex ID
+     * @return Component ID containing this vertex
+     * @throws IllegalArgumentException if the vertex is out of range
+     */
+    public int requireComponentId(int vertex) {
+        int component = getComponentId(vertex);
+        if (component < 0) {
+            throw new IllegalArgumentException("Unknown vertex: " + vertex);
+        }
+        return component;
     }
 
     /**
@@ -150,8 +190,8 @@ public class CondensationGraph {
         int[] inDegree = new int[n];
 
         for (int u = 0; u < n; u++) {
-            for (Graph.Edge edge : condensation.getEdgesFrom(u)) {
-                inDegree[edge.getDestination()]++;
+            for (int i = 0, degree = condensation.outDegree(u); i < degree; i++) {
+                inDegree[condensation.target(u, i)]++;
             }
         }
 
@@ -167,8 +207,8 @@ public class CondensationGraph {
             int u = queue.poll();
             processed++;
 
-            for (Graph.Edge edge : condensation.getEdgesFrom(u)) {
-                int v = edge.getDestination();
+            for (int i = 0, degree = condensation.outDegree(u); i < degree; i++) {
+                int v = condensation.target(u, i);
                 inDegree[v]--;
                 if (inDegree[v] == 0) {
                     queue.offer(v);
@@ -1,21 +1,75 @@
 package com.algorithms;
 
 
-import com.model.Graph;
+import com.model.Adjacency;
 import com.utils.Metrics;
 
 import java.util.*;
 
 /**
  * Provides algorithms for computing shortest and longest paths in Directed Acyclic Graphs (DAGs).
+ * The analyzer only reads the graph and every query allocates its own arrays and metrics,
+ * so one instance over an immutable graph can serve concurrent queries.
+ * The topological order is computed once (or supplied by the caller) and shared by all queries.
+ * Among equal-cost paths the smallest predecessor id becomes the parent, so every sweep
+ * reports the same parents whatever topological order it visits the vertices in.
  */
 public class DAG {
-    private final Graph graph;
-    private final Metrics performance;
+    private final Adjacency graph;
+    private volatile int[] topologicalOrder;
 
-    public DAG(Graph graph) {
+    /**
+     * Creates an analyzer; the topological order is computed on first use and cached.
+     *
+     * @param graph DAG to query
+     */
+    public DAG(Adjacency graph) {
+        this.graph = graph;
+    }
+
+    /**
+     * Creates an analyzer reusing a topological order computed elsewhere
+     * (e.g. {@link ComponentTS} on a condensation), so no sort is run here.
+     *
+     * @param graph DAG to query
+     * @param topologicalOrder every vertex exactly once, in topological order
+     */
+    public DAG(Adjacency graph, int[] topologicalOrder) {
+        this.graph = graph;
+        this.topologicalOrder = validateOrder(graph.getNumVertices(), topologicalOrder.clone());
+    }
+
+    /**
+     * Same as {@link #DAG(Adjacency, int[])} for an order held in a list.
+     *
+     * @param graph DAG to query
+     * @param topologicalOrder every vertex exactly once, in topological order
+     */
+    public DAG(Adjacency graph, List<Integer> topologicalOrder) {
         this.graph = graph;
-        this.performance = new Metrics();
+        int[] order = new int[topologicalOrder.size()];
+        for (int i = 0; i < order.length; i++) {
+            order[i] = topologicalOrder.get(i);
+        }
+        this.topologicalOrder = validateOrder(graph.getNumVertices(), order);
+    }
+
+    /**
+     * Checks that an order is a permutation of the vertices. Topological validity
+     * is the caller's responsibility.
+     */
+    private static int[] validateOrder(int n, int[] order) {
+        if (order.length != n) {
+            throw new IllegalArgumentException("Order has " + order.length + " vertices, graph has " + n);
+        }
+        boolean[] seen = new boolean[n];
+        for (int v : order) {
+            if (v < 0 || v >= n || seen[v]) {
+                throw new IllegalArgumentException("Order is not a permutation of the vertices: " + v);
+            }
+            seen[v] = true;
+        }
+        return order;
     }
 
     /**
@@ -32,20 +86,18 @@ public class DAG {
         Arrays.fill(previous, -1);
         distance[source] = 0;
 
-        performance.reset();
+        Metrics performance = new Metrics();
         performance.startTiming();
 
-        List<Integer> topoOrder = getTopologicalOrder();
-
-        for (int u : topoOrder) {
+        for (int u : getTopologicalOrder()) {
             if (distance[u] == Integer.MAX_VALUE) continue;
 
-            for (Graph.Edge edge : graph.getEdgesFrom(u)) {
-                int v = edge.getDestination();
-                int w = edge.getWeight();
+            for (int i = 0, degree = graph.outDegree(u); i < degree; i++) {
+                int v = graph.target(u, i);
+                int w = graph.weight(u, i);
                 performance.incrementOperations();
 
-                if (distance[u] + w < distance[v]) {
+                if (distance[u] + w < distance[v] || (distance[u] + w == distance[v] && u < previous[v])) {
                     distance[v] = distance[u] + w;
                     previous[v] = u;
                 }
@@ -68,20 +120,18 @@ public class DAG {
         Arrays.fill(previous, -1);
         distance[source] = 0;
 
-        performance.reset();
+        Metrics performance = new Metrics();
         performance.startTiming();
 
-        List<Integer> topoOrder = getTopologicalOrder();
-
-        for (int u : topoOrder) {
+        for (int u : getTopologicalOrder()) {
             if (distance[u] == Integer.MIN_VALUE) continue;
 
-            for (Graph.Edge edge : graph.getEdgesFrom(u)) {
-                int v = edge.getDestination();
-                int w = edge.getWeight();
+            for (int i = 0, degree = graph.outDegree(u); i < degree; i++) {
+                int v = graph.target(u, i);
+                int w = graph.weight(u, i);
                 performance.incrementOperations();
 
-                if (distance[u] + w > distance[v]) {
+                if (distance[u] + w > distance[v] || (distance[u] + w == distance[v] && u < previous[v])) {
                     distance[v] = distance[u] + w;
                     previous[v] = u;
                 }
@@ -93,73 +143,222 @@ public class DAG {
     }
 
     /**
-     * Finds the critical path (the longest path in the entire DAG).
+     * Computes shortest paths into a reusable workspace. Stale entries are invalidated
+     * by bumping the workspace generation, so a query allocates nothing once the
+     * workspace has grown to the graph size.
      *
-     * @return critical path details
+     * @param source the source vertex
+     * @param workspace scratch arrays, e.g. {@link Workspace#forCurrentThread()}
+     * @return the workspace, holding this query's distances, parents and metrics
      */
-    public CriticalPathResult findCriticalPath() {
-        int n = graph.getNumVertices();
-        int bestSrc = -1;
-        int bestDst = -1;
-        int longestLength = Integer.MIN_VALUE;
-        PathResult bestPathResult = null;
-
-        for (int src = 0; src < n; src++) {
-            PathResult result = computeLongestPaths(src);
-            int[] dist = result.getDistances();
-
-            for (int dst = 0; dst < n; dst++) {
-                if (dist[dst] != Integer.MIN_VALUE && dist[dst] > longestLength) {
-                    longestLength = dist[dst];
-                    bestSrc = src;
-                    bestDst = dst;
-                    bestPathResult = result;
+    public Workspace computeShortestPaths(int source, Workspace workspace) {
+        return relax(source, workspace, false);
+    }
+
+    /**
+     * Computes longest paths into a reusable workspace.
+     *
+     * @param source the source vertex
+     * @param workspace scratch arrays, e.g. {@link Workspace#forCurrentThread()}
+     * @return the workspace, holding this query's distances, parents and metrics
+     */
+    public Workspace computeLongestPaths(int source, Workspace workspace) {
+        return relax(source, workspace, true);
+    }
+
+    /**
+     * Shortest paths that only touch the sub-DAG reachable from the source.
+     * A DFS from the source collects the reachable vertices in reverse topological
+     * order, and only those are relaxed, so the cost is O(R + E_R) for a reachable
+     * region of R vertices and E_R edges, independent of the graph size.
+     * Results, parents included, are identical to {@link #computeShortestPaths(int, Workspace)}
+     * because equal-cost ties go to the smallest predecessor in both sweeps.
+     *
+     * @param source the source vertex
+     * @param workspace scratch arrays, e.g. {@link Workspace#forCurrentThread()}
+     * @return the workspace; {@link Workspace#getReachedCount()} is the size of the region
+     */
+    public Workspace computeReachableShortestPaths(int source, Workspace workspace) {
+        return relaxReachable(source, workspace, false);
+    }
+
+    /**
+     * Longest paths restricted to the sub-DAG reachable from the source.
+     *
+     * @param source the source vertex
+     * @param workspace scratch arrays, e.g. {@link Workspace#forCurrentThread()}
+     * @return the workspace; {@link Workspace#getReachedCount()} is the size of the region
+     */
+    public Workspace computeReachableLongestPaths(int source, Workspace workspace) {
+        return relaxReachable(source, workspace, true);
+    }
+
+    private Workspace relaxReachable(int source, Workspace ws, boolean longest) {
+        ws.begin(graph.getNumVertices(), longest);
+        ws.metrics.startTiming();
+
+        int count = ws.collectReachable(graph, source);
+        int[] postOrder = ws.reached;
+        ws.set(source, 0, -1);
+
+        for (int k = count - 1; k >= 0; k--) {
+            int u = postOrder[k];
+            int du = ws.distance[u];
+
+            for (int i = 0, degree = graph.outDegree(u); i < degree; i++) {
+                int v = graph.target(u, i);
+                int candidate = du + graph.weight(u, i);
+                ws.metrics.incrementOperations();
+
+                if (!ws.isReached(v) || (longest ? candidate > ws.distance[v] : candidate < ws.distance[v])
+                        || (candidate == ws.distance[v] && u < ws.previous[v])) {
+                    ws.set(v, candidate, u);
                 }
             }
         }
 
-        List<Integer> criticalPath = new ArrayList<>();
-        if (bestPathResult != null && bestDst != -1) {
-            criticalPath = bestPathResult.reconstructPath(bestDst);
+        ws.metrics.stopTiming();
+        return ws;
+    }
+
+    private Workspace relax(int source, Workspace ws, boolean longest) {
+        int n = graph.getNumVertices();
+        ws.begin(n, longest);
+        ws.metrics.startTiming();
+
+        int[] order = getTopologicalOrder();
+        ws.set(source, 0, -1);
+
+        for (int k = 0; k < n; k++) {
+            int u = order[k];
+            if (!ws.isReached(u)) continue;
+            int du = ws.distance[u];
+
+            for (int i = 0, degree = graph.outDegree(u); i < degree; i++) {
+                int v = graph.target(u, i);
+                int candidate = du + graph.weight(u, i);
+                ws.metrics.incrementOperations();
+
+                if (!ws.isReached(v) || (longest ? candidate > ws.distance[v] : candidate < ws.distance[v])
+                        || (candidate == ws.distance[v] && u < ws.previous[v])) {
+                    ws.set(v, candidate, u);
+                }
+            }
         }
 
-        return new CriticalPathResult(criticalPath, longestLength, bestSrc, bestDst);
+        ws.metrics.stopTiming();
+        return ws;
     }
 
     /**
-     * Performs a topological sort using DFS to determine vertex order.
+     * Finds the critical path (the longest path in the entire DAG).
+     * Runs a single topological sweep as if a virtual super-source had a zero-weight
+     * edge to every vertex, tracking for each vertex the start of its best path.
+     * Ties are resolved towards the smallest start vertex, then the smallest end vertex.
+     *
+     * @return critical path details
+     * @complexity O(V + E)
      */
-    private List<Integer> getTopologicalOrder() {
+    public CriticalPathResult findCriticalPath() {
         int n = graph.getNumVertices();
-        boolean[] visited = new boolean[n];
-        Deque<Integer> stack = new ArrayDeque<>();
+        if (n == 0) {
+            return new CriticalPathResult(new ArrayList<>(), Integer.MIN_VALUE, -1, -1);
+        }
+
+        int[] distance = new int[n];
+        int[] previous = new int[n];
+        int[] start = new int[n];
+        Arrays.fill(previous, -1);
+        for (int v = 0; v < n; v++) {
+            start[v] = v;
+        }
 
-        for (int i = 0; i < n; i++) {
-            if (!visited[i]) {
-                dfsTopological(i, visited, stack);
+        for (int u : getTopologicalOrder()) {
+            for (int i = 0, degree = graph.outDegree(u); i < degree; i++) {
+                int v = graph.target(u, i);
+                int candidate = distance[u] + graph.weight(u, i);
+
+                if (candidate > distance[v] || (candidate == distance[v] && start[u] < start[v])) {
+                    distance[v] = candidate;
+                    previous[v] = u;
+                    start[v] = start[u];
+                }
             }
         }
 
-        List<Integer> order = new ArrayList<>();
-        while (!stack.isEmpty()) {
-            order.add(stack.pop());
+        int bestDst = 0;
+        for (int v = 1; v < n; v++) {
+            if (distance[v] > distance[bestDst]
+                    || (distance[v] == distance[bestDst] && start[v] < start[bestDst])) {
+                bestDst = v;
+            }
         }
-        return order;
+
+        List<Integer> criticalPath = new PathResult(distance, previous, null, true).reconstructPath(bestDst);
+        return new CriticalPathResult(criticalPath, distance[bestDst], start[bestDst], bestDst);
     }
 
     /**
-     * Depth-first search helper method for topological sorting.
+     * Returns the graph this analyzer queries.
+     *
+     * @return the DAG passed to the constructor
      */
-    private void dfsTopological(int current, boolean[] visited, Deque<Integer> stack) {
-        visited[current] = true;
+    public Adjacency getGraph() {
+        return graph;
+    }
 
-        for (Graph.Edge edge : graph.getEdgesFrom(current)) {
-            if (!visited[edge.getDestination()]) {
-                dfsTopological(edge.getDestination(), visited, stack);
-            }
+    /**
+     * Returns the topological order used by all queries, computing it on first use.
+     * Concurrent first calls may both compute it; the result is the same either way.
+     *
+     * @return vertices in topological order (shared, do not modify)
+     */
+    public int[] getTopologicalOrder() {
+        int[] order = topologicalOrder;
+        if (order == null) {
+            order = computeTopologicalOrder();
+            topologicalOrder = order;
         }
+        return order;
+    }
 
-        stack.push(current);
+    /**
+     * Iterative DFS post-order, written from the back of the array.
+     */
+    private int[] computeTopologicalOrder() {
+        int n = graph.getNumVertices();
+        boolean[] visited = new boolean[n];
+        int[] order = new int[n];
+        int[] frameVertex = new int[n];
+        int[] frameEdge = new int[n];
+        int next = n;
+
+        for (int root = 0; root < n; root++) {
+            if (visited[root]) continue;
+            int top = 0;
+            frameVertex[0] = root;
+            frameEdge[0] = 0;
+            visited[root] = true;
+
+            while (top >= 0) {
+                int current = frameVertex[top];
+                int i = frameEdge[top];
+                if (i < graph.outDegree(current)) {
+                    frameEdge[top] = i + 1;
+                    int v = graph.target(current, i);
+                    if (!visited[v]) {
+                        visited[v] = true;
+                        top++;
+                        frameVertex[top] = v;
+                        frameEdge[top] = 0;
+                    }
+                } else {
+                    order[--next] = current;
+                    top--;
+                }
+            }
+        }
+        return order;
     }
 
     // ====== Inner Classes ======
@@ -213,6 +412,183 @@ public class DAG {
         }
     }
 
+    /**
+     * Pre-sized scratch arrays for allocation-free path queries.
+     * An entry is valid only if its stamp equals the current generation, so starting
+     * a query is O(1) instead of an {@code Arrays.fill}. A workspace is not thread-safe;
+     * use one per thread ({@link #forCurrentThread()}). Its contents are overwritten by
+     * the next query.
+     */
+    public static final class Workspace {
+        private static final ThreadLocal<Workspace> PER_THREAD = ThreadLocal.withInitial(() -> new Workspace(0));
+
+        private final Metrics metrics = new Metrics();
+        private int[] distance;
+        private int[] previous;
+        private int[] stamp;
+        private int[] visited;
+        private int[] reached;
+        private int[] frameVertex;
+        private int[] frameEdge;
+        private int reachedCount;
+        private int generation;
+        private boolean longest;
+
+        /**
+         * Creates a workspace; it grows on demand for larger graphs.
+         *
+         * @param capacity initial number of vertices
+         */
+        public Workspace(int capacity) {
+            allocate(capacity);
+        }
+
+        /**
+         * Returns the workspace owned by the calling thread.
+         *
+         * @return per-thread workspace
+         */
+        public static Workspace forCurrentThread() {
+            return PER_THREAD.get();
+        }
+
+        private void allocate(int capacity) {
+            distance = new int[capacity];
+            previous = new int[capacity];
+            stamp = new int[capacity];
+            visited = new int[capacity];
+            reached = new int[capacity];
+            frameVertex = new int[capacity];
+            frameEdge = new int[capacity];
+            generation = 0;
+        }
+
+        private void begin(int n, boolean longest) {
+            if (distance.length < n) {
+                allocate(Math.max(n, distance.length + (distance.length >> 1)));
+            }
+            if (++generation == 0) {
+                // Stamps wrapped around: clear them once every 2^32 queries
+                Arrays.fill(stamp, 0);
+                Arrays.fill(visited, 0);
+                generation = 1;
+            }
+            this.longest = longest;
+            reachedCount = 0;
+            metrics.reset();
+        }
+
+        /**
+         * Iterative DFS from the source; stores the reachable vertices in post-order
+         * (reverse topological order) in {@code reached}.
+         *
+         * @return number of reachable vertices, source included
+         */
+        private int collectReachable(Adjacency graph, int source) {
+            int count = 0;
+            int top = 0;
+            frameVertex[0] = source;
+            frameEdge[0] = 0;
+            visited[source] = generation;
+
+            while (top >= 0) {
+                int u = frameVertex[top];
+                int i = frameEdge[top];
+                if (i < graph.outDegree(u)) {
+                    frameEdge[top] = i + 1;
+                    int v = graph.target(u, i);
+                    if (visited[v] != generation) {
+                        visited[v] = generation;
+                        top++;
+                        frameVertex[top] = v;
+                        frameEdge[top] = 0;
+                    }
+                } else {
+                    reached[count++] = u;
+                    top--;
+                }
+            }
+            reachedCount = count;
+            return count;
+        }
+
+        private boolean isReached(int v) {
+            return stamp[v] == generation;
+        }
+
+        private void set(int v, int dist, int parent) {
+            distance[v] = dist;
+            previous[v] = parent;
+            stamp[v] = generation;
+        }
+
+        /**
+         * Returns the distance of a vertex from the last query's source.
+         *
+         * @param vertex vertex ID
+         * @return distance, or Integer.MAX_VALUE (shortest) / Integer.MIN_VALUE (longest) if unreachable
+         */
+        public int getDistance(int vertex) {
+            if (isReached(vertex)) return distance[vertex];
+            return longest ? Integer.MIN_VALUE : Integer.MAX_VALUE;
+        }
+
+        /**
+         * Returns the predecessor of a vertex on its best path.
+         *
+         * @param vertex vertex ID
+         * @return parent vertex, or -1 for the source and unreachable vertices
+         */
+        public int getParent(int vertex) {
+            return isReached(vertex) ? previous[vertex] : -1;
+        }
+
+        public boolean isLongest() {
+            return longest;
+        }
+
+        /**
+         * Returns the number of vertices visited by the last reachable-only query
+         * (0 after a full query).
+         *
+         * @return size of the reachable region
+         */
+        public int getReachedCount() {
+            return reachedCount;
+        }
+
+        /**
+         * Returns a vertex of the last reachable-only query's region, in topological order.
+         *
+         * @param index position in [0, getReachedCount())
+         * @return reachable vertex
+         */
+        public int getReached(int index) {
+            return reached[reachedCount - 1 - index];
+        }
+
+        public Metrics getMetrics() {
+            return metrics;
+        }
+
+        /**
+         * Copies the last query, including its operation count and timing, into a
+         * standalone result (allocates).
+         *
+         * @param numVertices vertex count of the queried graph
+         * @return detached path result
+         */
+        public PathResult toPathResult(int numVertices) {
+            int[] distances = new int[numVertices];
+            int[] parents = new int[numVertices];
+            for (int v = 0; v < numVertices; v++) {
+                distances[v] = getDistance(v);
+                parents[v] = getParent(v);
+            }
+            return new PathResult(distances, parents, metrics.copy(), longest);
+        }
+    }
+
     /**
      * Represents the final result of a critical path computation.
      */
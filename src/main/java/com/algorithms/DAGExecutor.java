@@ -0,0 +1,430 @@
+package com.algorithms;
+
+import com.model.Adjacency;
+import com.utils.Metrics;
+
+import java.util.ArrayDeque;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+/**
+ * Runs one task per vertex of a DAG, each on its own virtual thread, starting a task
+ * as soon as all of its predecessors have finished.
+ *
+ * Readiness is tracked with an atomic remaining-predecessor counter per vertex (Kahn's
+ * in-degrees, without level barriers): the thread that finishes the last predecessor
+ * submits the successor. A semaphore caps how many tasks run at once. A task that fails
+ * marks its dependents SKIPPED without running them, while independent branches continue.
+ * {@link Execution#cancel()} stops new tasks from starting and interrupts running ones.
+ * Cyclic graphs are rejected; run their condensation instead.
+ *
+ * The executor itself is immutable, so several executions may run at the same time.
+ */
+public class DAGExecutor {
+    /**
+     * Final state of a vertex's task.
+     */
+    public enum TaskStatus {
+        /** The task returned normally. */
+        SUCCEEDED,
+        /** The task threw; the exception is kept in the report. */
+        FAILED,
+        /** Not run because a predecessor failed, was skipped or was cancelled. */
+        SKIPPED,
+        /** Not run, or interrupted, because the execution was cancelled. */
+        CANCELLED
+    }
+
+    /**
+     * Work for one vertex; the returned value is kept in the report.
+     */
+    @FunctionalInterface
+    public interface VertexTask {
+        Object call(int vertex) throws Exception;
+    }
+
+    private final Adjacency graph;
+    private final int[] inDegree;
+    private final int maxConcurrency;
+
+    /**
+     * Creates an executor without a concurrency limit.
+     *
+     * @param graph dependency DAG, an edge u -> v meaning v needs u
+     */
+    public DAGExecutor(Adjacency graph) {
+        this(graph, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Creates an executor.
+     *
+     * @param graph dependency DAG, an edge u -> v meaning v needs u
+     * @param maxConcurrency most tasks allowed to run at once
+     */
+    public DAGExecutor(Adjacency graph, int maxConcurrency) {
+        if (maxConcurrency < 1) {
+            throw new IllegalArgumentException("Need at least one concurrent task: " + maxConcurrency);
+        }
+        if (!new KahnTopologicalSort(graph).computeTopoOrder().isDAG()) {
+            throw new IllegalArgumentException("Dependency graph has a cycle; execute its condensation instead");
+        }
+        this.graph = graph;
+        this.maxConcurrency = maxConcurrency;
+        this.inDegree = new int[graph.getNumVertices()];
+        for (int u = 0; u < inDegree.length; u++) {
+            for (int i = 0, degree = graph.outDegree(u); i < degree; i++) {
+                inDegree[graph.target(u, i)]++;
+            }
+        }
+    }
+
+    /**
+     * Runs all tasks and waits for them. If the caller is interrupted, the execution
+     * is cancelled before the interrupt is passed on, so no task outlives the call.
+     *
+     * @param task work for each vertex
+     * @return per-vertex outcome, results and timings
+     * @throws InterruptedException if the calling thread is interrupted while waiting;
+     *         its interrupt flag stays set
+     */
+    public Report run(VertexTask task) throws InterruptedException {
+        Execution execution = start(task);
+        try {
+            return execution.await();
+        } catch (InterruptedException e) {
+            execution.cancel();
+            Thread.currentThread().interrupt();
+            throw e;
+        }
+    }
+
+    /**
+     * Runs {@code tasks[v]} for every vertex v and waits for them.
+     *
+     * @param tasks one runnable per vertex
+     * @return per-vertex outcome and timings
+     * @throws InterruptedException if the calling thread is interrupted while waiting
+     */
+    public Report run(Runnable[] tasks) throws InterruptedException {
+        checkTaskCount(tasks.length);
+        return run(vertex -> {
+            tasks[vertex].run();
+            return null;
+        });
+    }
+
+    /**
+     * Runs {@code tasks[v]} for every vertex v and waits for them.
+     *
+     * @param tasks one callable per vertex
+     * @return per-vertex outcome, results and timings
+     * @throws InterruptedException if the calling thread is interrupted while waiting
+     */
+    public Report run(Callable<?>[] tasks) throws InterruptedException {
+        checkTaskCount(tasks.length);
+        return run(vertex -> tasks[vertex].call());
+    }
+
+    /**
+     * Starts all tasks and returns immediately.
+     *
+     * @param task work for each vertex
+     * @return handle to wait for or cancel the execution
+     */
+    public Execution start(VertexTask task) {
+        Execution execution = new Execution(task);
+        execution.begin();
+        return execution;
+    }
+
+    private void checkTaskCount(int count) {
+        if (count != inDegree.length) {
+            throw new IllegalArgumentException(count + " tasks for " + inDegree.length + " vertices");
+        }
+    }
+
+    /**
+     * One run of the executor. Per-vertex arrays are written only by the thread that
+     * finishes that vertex, before it decrements the shared pending counter, so they are
+     * visible once {@link #await()} returns. The task threads are shut down as soon as
+     * the last vertex is settled, whether or not anyone awaits the execution.
+     */
+    public final class Execution {
+        private final VertexTask task;
+        private final AtomicIntegerArray remaining;
+        private final AtomicIntegerArray blocked;
+        private final TaskStatus[] status;
+        private final Throwable[] failure;
+        private final Object[] result;
+        private final Metrics[] taskMetrics;
+        private final AtomicInteger pending;
+        private final AtomicInteger running = new AtomicInteger();
+        private final AtomicInteger peak = new AtomicInteger();
+        private final AtomicInteger executed = new AtomicInteger();
+        private final CountDownLatch done = new CountDownLatch(1);
+        private final Semaphore permits = new Semaphore(maxConcurrency);
+        private final ExecutorService threads =
+                Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("dag-task-", 0).factory());
+        private final Metrics metrics = new Metrics();
+        private volatile boolean cancelled;
+
+        private Execution(VertexTask task) {
+            int n = inDegree.length;
+            this.task = task;
+            this.remaining = new AtomicIntegerArray(inDegree);
+            this.blocked = new AtomicIntegerArray(n);
+            this.status = new TaskStatus[n];
+            this.failure = new Throwable[n];
+            this.result = new Object[n];
+            this.taskMetrics = new Metrics[n];
+            this.pending = new AtomicInteger(n);
+        }
+
+        private void begin() {
+            metrics.startTiming();
+            if (inDegree.length == 0) {
+                metrics.stopTiming();
+                threads.shutdown();
+                done.countDown();
+                return;
+            }
+            for (int v = 0; v < inDegree.length; v++) {
+                if (inDegree[v] == 0) {
+                    ready(v);
+                }
+            }
+        }
+
+        /**
+         * All predecessors of v are finished: submit it, or settle it without running.
+         */
+        private void ready(int v) {
+            if (cancelled) {
+                finish(v, TaskStatus.CANCELLED);
+            } else if (blocked.get(v) != 0) {
+                finish(v, TaskStatus.SKIPPED);
+            } else {
+                try {
+                    threads.execute(() -> runTask(v));
+                } catch (RejectedExecutionException e) {
+                    finish(v, TaskStatus.CANCELLED);
+                }
+            }
+        }
+
+        private void runTask(int v) {
+            try {
+                permits.acquire();
+            } catch (InterruptedException e) {
+                finish(v, TaskStatus.CANCELLED);
+                return;
+            }
+
+            TaskStatus outcome;
+            try {
+                if (cancelled) {
+                    outcome = TaskStatus.CANCELLED;
+                } else {
+                    peak.accumulateAndGet(running.incrementAndGet(), Math::max);
+                    Metrics timing = new Metrics();
+                    timing.startTiming();
+                    try {
+                        result[v] = task.call(v);
+                        outcome = TaskStatus.SUCCEEDED;
+                    } catch (Throwable t) {
+                        failure[v] = t;
+                        outcome = cancelled ? TaskStatus.CANCELLED : TaskStatus.FAILED;
+                    }
+                    timing.stopTiming();
+                    timing.incrementOperations();
+                    taskMetrics[v] = timing;
+                    executed.incrementAndGet();
+                    running.decrementAndGet();
+                }
+            } finally {
+                permits.release();
+            }
+            finish(v, outcome);
+        }
+
+        /**
+         * Records v's outcome and releases its successors. Vertices settled without
+         * running (skipped or cancelled chains) are handled on a local worklist, so a
+         * long failed chain does not recurse.
+         */
+        private void finish(int vertex, TaskStatus outcome) {
+            ArrayDeque<Integer> settled = null;
+            int v = vertex;
+            TaskStatus s = outcome;
+            while (true) {
+                status[v] = s;
+                for (int i = 0, degree = graph.outDegree(v); i < degree; i++) {
+                    int w = graph.target(v, i);
+                    if (s != TaskStatus.SUCCEEDED) {
+                        blocked.set(w, 1);
+                    }
+                    if (remaining.decrementAndGet(w) == 0) {
+                        if (cancelled || blocked.get(w) != 0) {
+                            if (settled == null) settled = new ArrayDeque<>();
+                            settled.push(w);
+                        } else {
+                            ready(w);
+                        }
+                    }
+                }
+                if (pending.decrementAndGet() == 0) {
+                    metrics.stopTiming();
+                    metrics.addOperations(executed.get());
+                    threads.shutdown();
+                    done.countDown();
+                }
+                if (settled == null || settled.isEmpty()) {
+                    return;
+                }
+                v = settled.pop();
+                s = cancelled ? TaskStatus.CANCELLED : TaskStatus.SKIPPED;
+            }
+        }
+
+        /**
+         * Stops new tasks from starting and interrupts the running ones. Tasks that
+         * ignore the interrupt still finish with their own outcome.
+         */
+        public void cancel() {
+            cancelled = true;
+            threads.shutdownNow();
+        }
+
+        public boolean isDone() {
+            return done.getCount() == 0;
+        }
+
+        /**
+         * Waits until every vertex has an outcome.
+         *
+         * @return the report
+         * @throws InterruptedException if the calling thread is interrupted while waiting
+         */
+        public Report await() throws InterruptedException {
+            done.await();
+            return report();
+        }
+
+        /**
+         * Waits at most the given time.
+         *
+         * @param timeout how long to wait
+         * @param unit unit of the timeout
+         * @return the report, or null if the execution is still running
+         * @throws InterruptedException if the calling thread is interrupted while waiting
+         */
+        public Report await(long timeout, TimeUnit unit) throws InterruptedException {
+            if (!done.await(timeout, unit)) {
+                return null;
+            }
+            return report();
+        }
+
+        private Report report() {
+            return new Report(status, failure, result, taskMetrics, peak.get(), metrics);
+        }
+    }
+
+    /**
+     * Outcome of an execution.
+     */
+    public static class Report {
+        private final TaskStatus[] status;
+        private final Throwable[] failure;
+        private final Object[] result;
+        private final Metrics[] taskMetrics;
+        private final int peakConcurrency;
+        private final Metrics metrics;
+
+        public Report(TaskStatus[] status, Throwable[] failure, Object[] result, Metrics[] taskMetrics,
+                      int peakConcurrency, Metrics metrics) {
+            this.status = status;
+            this.failure = failure;
+            this.result = result;
+            this.taskMetrics = taskMetrics;
+            this.peakConcurrency = peakConcurrency;
+            this.metrics = metrics;
+        }
+
+        public TaskStatus getStatus(int vertex) {
+            return status[vertex];
+        }
+
+        /**
+         * Returns what a task threw.
+         *
+         * @param vertex vertex whose task failed
+         * @return the exception, or null if the task did not throw
+         */
+        public Throwable getFailure(int vertex) {
+            return failure[vertex];
+        }
+
+        public Object getResult(int vertex) {
+            return result[vertex];
+        }
+
+        /**
+         * Timing of one task.
+         *
+         * @param vertex vertex of the task
+         * @return wall time of the call, or null if the task never ran
+         */
+        public Metrics getTaskMetrics(int vertex) {
+            return taskMetrics[vertex];
+        }
+
+        /**
+         * Counts vertices with a given outcome.
+         *
+         * @param wanted outcome to count
+         * @return number of vertices
+         */
+        public int count(TaskStatus wanted) {
+            int count = 0;
+            for (TaskStatus s : status) {
+                if (s == wanted) count++;
+            }
+            return count;
+        }
+
+        public boolean isSuccessful() {
+            return count(TaskStatus.SUCCEEDED) == status.length;
+        }
+
+        /**
+         * Sum of the wall times of all tasks that ran.
+         */
+        public long getTotalTaskNanos() {
+            long total = 0;
+            for (Metrics timing : taskMetrics) {
+                if (timing != null) total += timing.getElapsedNanos();
+            }
+            return total;
+        }
+
+        public int getPeakConcurrency() {
+            return peakConcurrency;
+        }
+
+        /**
+         * Wall time of the whole execution; operations count the tasks that ran.
+         */
+        public Metrics getMetrics() {
+            return metrics;
+        }
+    }
+}
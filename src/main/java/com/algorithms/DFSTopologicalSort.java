@@ -1,6 +1,6 @@
 package com.algorithms;
 
-import com.model.Graph;
+import com.model.Adjacency;
 import com.utils.Metrics;
 
 import java.util.*;
@@ -8,73 +8,94 @@ import java.util.*;
 /**
  * Topological sorting implementation using Depth-First Search (DFS).
  * Produces a valid order for Directed Acyclic Graphs (DAGs).
+ *
+ * The DFS is iterative (explicit vertex/edge-index stack), so long chains do not
+ * need a deep thread stack. Vertices are coloured white/grey/black; reaching a grey
+ * vertex is a back edge, and the sort stops at the first one it finds.
+ * Instances keep no per-call state and may be shared between threads.
  */
 public class DFSTopologicalSort {
-    private final Graph inputGraph;
-    private final Metrics metrics;
+    private static final byte WHITE = 0;
+    private static final byte GREY = 1;
+    private static final byte BLACK = 2;
+
+    private final Adjacency inputGraph;
 
     /**
      * Initializes a DFS-based topological sorter.
      *
      * @param inputGraph the graph to process
      */
-    public DFSTopologicalSort(Graph inputGraph) {
+    public DFSTopologicalSort(Adjacency inputGraph) {
         this.inputGraph = inputGraph;
-        this.metrics = new Metrics();
     }
 
     /**
-     * Executes topological sorting using recursive DFS.
+     * Executes topological sorting using iterative DFS.
+     * Post-order is written from the back of a pre-sized array, which yields the
+     * topological order directly.
      *
+     * @return order and metrics; on a cycle the order is empty and isDAG() is false
      */
     public KahnTopologicalSort.TopoResult performSort() {
         int numVertices = inputGraph.getNumVertices();
-        boolean[] visited = new boolean[numVertices];
-        Stack<Integer> orderStack = new Stack<>();
+        byte[] colour = new byte[numVertices];
+        int[] order = new int[numVertices];
+        int[] stackVertex = new int[numVertices];
+        int[] stackEdge = new int[numVertices];
+        int next = numVertices;
+        boolean isAcyclic = true;
 
-        metrics.reset();
+        Metrics metrics = new Metrics();
         metrics.startTiming();
 
         // Explore each unvisited vertex
-        for (int vertex = 0; vertex < numVertices; vertex++) {
-            if (!visited[vertex]) {
-                explore(vertex, visited, orderStack);
+        for (int root = 0; root < numVertices && isAcyclic; root++) {
+            if (colour[root] != WHITE) {
+                continue;
             }
-        }
-
-        metrics.stopTiming();
-
-        // Collect sorted order
-        List<Integer> topoOrder = new ArrayList<>();
-        while (!orderStack.isEmpty()) {
-            topoOrder.add(orderStack.pop());
-        }
+            int top = 0;
+            stackVertex[top] = root;
+            stackEdge[top++] = 0;
+            colour[root] = GREY;
+            metrics.incrementOperations();
 
-        boolean isAcyclic = (topoOrder.size() == numVertices);
+            while (top > 0) {
+                int current = stackVertex[top - 1];
+                int index = stackEdge[top - 1];
 
-        return new KahnTopologicalSort.TopoResult(topoOrder, isAcyclic, metrics);
-    }
+                if (index < inputGraph.outDegree(current)) {
+                    stackEdge[top - 1]++;
+                    int neighbor = inputGraph.target(current, index);
+                    metrics.incrementOperations();
 
-    /**
-     * Recursive DFS helper for topological sorting.
-     *
-     * @param current  current vertex being explored
-     * @param visited  tracks visited nodes
-     * @param orderStack  stores nodes in postorder
-     */
-    private void explore(int current, boolean[] visited, Stack<Integer> orderStack) {
-        visited[current] = true;
-        metrics.incrementOperations();
+                    if (colour[neighbor] == WHITE) {
+                        colour[neighbor] = GREY;
+                        metrics.incrementOperations();
+                        stackVertex[top] = neighbor;
+                        stackEdge[top++] = 0;
+                    } else if (colour[neighbor] == GREY) {
+                        // Back edge: current -> neighbor closes a cycle
+                        isAcyclic = false;
+                        break;
+                    }
+                } else {
+                    colour[current] = BLACK;
+                    order[--next] = current;
+                    top--;
+                }
+            }
+        }
 
-        for (Graph.Edge edge : inputGraph.getEdgesFrom(current)) {
-            int neighbor = edge.getDestination();
-            metrics.incrementOperations();
+        metrics.stopTiming();
 
-            if (!visited[neighbor]) {
-                explore(neighbor, visited, orderStack);
+        List<Integer> topoOrder = new ArrayList<>(isAcyclic ? numVertices : 0);
+        if (isAcyclic) {
+            for (int vertex : order) {
+                topoOrder.add(vertex);
             }
         }
 
-        orderStack.push(current);
+        return new KahnTopologicalSort.TopoResult(topoOrder, isAcyclic, metrics);
     }
 }
@@ -0,0 +1,257 @@
+package com.algorithms;
+
+import com.model.Adjacency;
+import com.utils.Metrics;
+
+import java.util.Arrays;
+import java.util.Random;
+
+/**
+ * GRAIL-style reachability labels for condensation DAGs too large for a full closure.
+ *
+ * Each of {@code k} randomized DFS traversals gives every component an interval
+ * [low, post], where post is its post-order rank and low the smallest rank among its
+ * descendants. If u reaches v, v's interval is nested in u's for every traversal,
+ * so one non-nested interval proves unreachability. Two further cuts avoid most searches:
+ * <ul>
+ *   <li>topological levels: u can only reach v if level(u) &lt; level(v);</li>
+ *   <li>spanning-tree interval of the first traversal: a tree descendant is reachable.</li>
+ * </ul>
+ * Remaining queries run a DFS that only enters components whose labels still allow
+ * reaching the target. Scratch arrays for that DFS are kept per thread and shared by
+ * all indexes, so a thread's scratch never keeps an index alive.
+ *
+ * Build time: O(k * (C + E_c))
+ * Memory: O(k * C) ints
+ * Query time: O(k) when a cut applies, pruned DFS otherwise
+ */
+public class GrailIndex implements ReachabilityIndex {
+    public static final int DEFAULT_TRAVERSALS = 3;
+
+    private final CondensationGraph condensation;
+    private final Adjacency dag;
+    private final int traversals;
+    private final int[] low;
+    private final int[] post;
+    private final int[] treePre;
+    private final int[] treePost;
+    private final int[] level;
+    private final Metrics metrics;
+
+    /**
+     * Builds labels with {@link #DEFAULT_TRAVERSALS} traversals.
+     *
+     * @param condensation SCCs and their DAG
+     */
+    public GrailIndex(CondensationGraph condensation) {
+        this(condensation, DEFAULT_TRAVERSALS, 42L);
+    }
+
+    /**
+     * Builds labels.
+     *
+     * @param condensation SCCs and their DAG
+     * @param traversals number of randomized interval labelings (more = fewer searches)
+     * @param seed seed for the traversal orders
+     */
+    public GrailIndex(CondensationGraph condensation, int traversals, long seed) {
+        if (traversals < 1) {
+            throw new IllegalArgumentException("Need at least one traversal: " + traversals);
+        }
+        this.condensation = condensation;
+        this.dag = condensation.getCondensationGraph();
+        this.traversals = traversals;
+        this.metrics = new Metrics();
+
+        int c = dag.getNumVertices();
+        this.low = new int[c * traversals];
+        this.post = new int[c * traversals];
+        this.treePre = new int[c];
+        this.treePost = new int[c];
+        this.level = new int[c];
+
+        metrics.startTiming();
+        computeLevels();
+        Random random = new Random(seed);
+        int[] roots = new int[c];
+        int[] frameVertex = new int[c];
+        int[] frameEdge = new int[c];
+        int[] frameStart = new int[c];
+        boolean[] visited = new boolean[c];
+        for (int t = 0; t < traversals; t++) {
+            label(t, random, roots, frameVertex, frameEdge, frameStart, visited);
+        }
+        metrics.stopTiming();
+    }
+
+    /**
+     * Longest distance (in edges) from any source component.
+     */
+    private void computeLevels() {
+        for (int u : new DAG(dag).getTopologicalOrder()) {
+            for (int i = 0, degree = dag.outDegree(u); i < degree; i++) {
+                int v = dag.target(u, i);
+                level[v] = Math.max(level[v], level[u] + 1);
+            }
+            metrics.addOperations(dag.outDegree(u) + 1);
+        }
+    }
+
+    /**
+     * One randomized iterative DFS: shuffled roots, each vertex starts its edge scan at a
+     * random offset. Assigns [low, post] for traversal t (and tree pre/post for t == 0).
+     */
+    private void label(int t, Random random, int[] roots, int[] frameVertex, int[] frameEdge,
+                       int[] frameStart, boolean[] visited) {
+        int c = dag.getNumVertices();
+        for (int v = 0; v < c; v++) {
+            roots[v] = v;
+        }
+        for (int i = c - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            int tmp = roots[i];
+            roots[i] = roots[j];
+            roots[j] = tmp;
+        }
+        Arrays.fill(visited, false);
+
+        int rank = 0;
+        int preRank = 0;
+        for (int r = 0; r < c; r++) {
+            int root = roots[r];
+            if (visited[root]) continue;
+            int top = 0;
+            frameVertex[0] = root;
+            frameEdge[0] = 0;
+            frameStart[0] = dag.outDegree(root) == 0 ? 0 : random.nextInt(dag.outDegree(root));
+            visited[root] = true;
+            if (t == 0) treePre[root] = preRank++;
+
+            while (top >= 0) {
+                int u = frameVertex[top];
+                int degree = dag.outDegree(u);
+                int k = frameEdge[top];
+                if (k < degree) {
+                    frameEdge[top] = k + 1;
+                    int v = dag.target(u, (frameStart[top] + k) % degree);
+                    if (!visited[v]) {
+                        visited[v] = true;
+                        if (t == 0) treePre[v] = preRank++;
+                        top++;
+                        frameVertex[top] = v;
+                        frameEdge[top] = 0;
+                        frameStart[top] = dag.outDegree(v) == 0 ? 0 : random.nextInt(dag.outDegree(v));
+                    }
+                    continue;
+                }
+
+                // All successors are finished: low = min(own rank, successors' lows)
+                int own = rank++;
+                int min = own;
+                for (int i = 0; i < degree; i++) {
+                    min = Math.min(min, low[dag.target(u, i) * traversals + t]);
+                }
+                low[u * traversals + t] = min;
+                post[u * traversals + t] = own;
+                if (t == 0) treePost[u] = own;
+                metrics.addOperations(2L * degree + 1);
+                top--;
+            }
+        }
+    }
+
+    @Override
+    public boolean reaches(int from, int to) {
+        return componentReaches(condensation.requireComponentId(from), condensation.requireComponentId(to));
+    }
+
+    /**
+     * Tests reachability between two components.
+     *
+     * @param from start component
+     * @param to end component
+     * @return true if the condensation has a path (or the components are equal)
+     */
+    public boolean componentReaches(int from, int to) {
+        if (from == to) return true;
+        if (!mayReach(from, to)) return false;
+        if (treeContains(from, to)) return true;
+        return Search.PER_THREAD.get().run(this, from, to);
+    }
+
+    /**
+     * Necessary condition: level order and nested intervals in every traversal.
+     */
+    private boolean mayReach(int u, int v) {
+        if (level[u] >= level[v]) return false;
+        int bu = u * traversals;
+        int bv = v * traversals;
+        for (int t = 0; t < traversals; t++) {
+            if (low[bv + t] < low[bu + t] || post[bv + t] > post[bu + t]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Sufficient condition: v is a descendant of u in the first traversal's DFS tree.
+     */
+    private boolean treeContains(int u, int v) {
+        return treePre[u] <= treePre[v] && treePost[v] <= treePost[u];
+    }
+
+    @Override
+    public long getMemoryBytes() {
+        return (long) Integer.BYTES * (low.length + post.length + treePre.length + treePost.length + level.length);
+    }
+
+    @Override
+    public Metrics getBuildMetrics() {
+        return metrics;
+    }
+
+    /**
+     * Per-thread scratch for the pruned DFS; visited marks use generation stamps.
+     * Static and sized on demand, so it holds no reference to any index.
+     */
+    private static final class Search {
+        private static final ThreadLocal<Search> PER_THREAD = ThreadLocal.withInitial(Search::new);
+
+        private int[] visited = new int[0];
+        private int[] stack = new int[0];
+        private int generation;
+
+        boolean run(GrailIndex index, int from, int to) {
+            Adjacency dag = index.dag;
+            int c = dag.getNumVertices();
+            if (visited.length < c) {
+                visited = new int[c];
+                stack = new int[c];
+                generation = 0;
+            }
+            if (++generation == 0) {
+                Arrays.fill(visited, 0);
+                generation = 1;
+            }
+            int top = 0;
+            stack[top++] = from;
+            visited[from] = generation;
+
+            while (top > 0) {
+                int u = stack[--top];
+                for (int i = 0, degree = dag.outDegree(u); i < degree; i++) {
+                    int w = dag.target(u, i);
+                    if (w == to) return true;
+                    if (visited[w] == generation) continue;
+                    visited[w] = generation;
+                    if (index.mayReach(w, to)) {
+                        if (index.treeContains(w, to)) return true;
+                        stack[top++] = w;
+                    }
+                }
+            }
+            return false;
+        }
+    }
+}
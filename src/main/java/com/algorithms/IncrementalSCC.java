@@ -0,0 +1,434 @@
+package com.algorithms;
+
+import com.model.Graph;
+import com.utils.Metrics;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Keeps the SCCs, condensation DAG and a topological order of the components up to
+ * date while edges are inserted, instead of recomputing them from scratch.
+ *
+ * The order is maintained with the Pearce-Kelly algorithm. An edge a -> b between
+ * components with ord(a) &lt; ord(b) changes nothing. Otherwise only the affected
+ * region between ord(b) and ord(a) is searched: forward from b (set F) and backward
+ * from a (set B). If a is in F the edge closed a cycle, and exactly the components
+ * in F &#8745; B are merged into one. The region's positions are then handed out
+ * again as B \ S, the merged component, F \ S, each group keeping its old relative order.
+ * Positions freed by a merge stay empty, between the merged component and F \ S.
+ *
+ * Components are identified by their index in the initial decomposition; merged
+ * components are tracked with union-find. Adjacency lists may hold stale ids or
+ * duplicates, which are resolved during searches. Merging compacts the lists. The lists
+ * only carry structure; {@link #toCondensationGraph()} exports a fresh, densely numbered
+ * snapshot whose edge weights are rebuilt from the graph under the weight policy of the
+ * condensation the structure was started from.
+ *
+ * Not thread-safe: updates and queries must come from one thread at a time.
+ */
+public class IncrementalSCC {
+    private final Graph graph;
+    private final int[] vertexComponent;
+    private final int[] parent;
+    private final CondensationBuilder.WeightPolicy policy;
+    private final int[][] outTarget;
+    private final int[] outSize;
+    private final int[][] inSource;
+    private final int[] inSize;
+    private final int[] ord;
+    private final int[] nodeAt;
+    private final Metrics metrics = new Metrics();
+    private int componentCount;
+
+    // Scratch for the searches, reused by every insertion
+    private final int[] forwardMark;
+    private final int[] backwardMark;
+    private final int[] stack;
+    private int generation;
+    private int[] forward = new int[16];
+    private int forwardSize;
+    private int[] backward = new int[16];
+    private int backwardSize;
+
+    /**
+     * Decomposes a graph and starts tracking it.
+     *
+     * @param graph graph that later insertions are also applied to
+     */
+    public IncrementalSCC(Graph graph) {
+        this(graph, new FusedComponentAnalyzer(graph).analyze().getCondensation());
+    }
+
+    /**
+     * Starts tracking an existing decomposition.
+     *
+     * @param graph graph the condensation was built from; later insertions are applied to it
+     * @param condensation current SCCs of the graph
+     */
+    public IncrementalSCC(Graph graph, CondensationGraph condensation) {
+        this.graph = graph;
+        this.policy = condensation.getWeightPolicy();
+        Graph dag = condensation.getCondensationGraph();
+        int c = dag.getNumVertices();
+        this.componentCount = c;
+
+        this.vertexComponent = new int[graph.getNumVertices()];
+        for (int v = 0; v < vertexComponent.length; v++) {
+            vertexComponent[v] = condensation.getComponentId(v);
+        }
+        this.parent = new int[c];
+        this.outTarget = new int[c][];
+        this.outSize = new int[c];
+        this.inSource = new int[c][];
+        this.inSize = new int[c];
+        for (int u = 0; u < c; u++) {
+            parent[u] = u;
+            int degree = dag.outDegree(u);
+            outTarget[u] = new int[Math.max(2, degree)];
+            for (int i = 0; i < degree; i++) {
+                outTarget[u][i] = dag.target(u, i);
+            }
+            outSize[u] = degree;
+        }
+        int[] inDegree = new int[c];
+        for (int u = 0; u < c; u++) {
+            for (int i = 0; i < outSize[u]; i++) {
+                inDegree[outTarget[u][i]]++;
+            }
+        }
+        for (int u = 0; u < c; u++) {
+            inSource[u] = new int[Math.max(2, inDegree[u])];
+        }
+        for (int u = 0; u < c; u++) {
+            for (int i = 0; i < outSize[u]; i++) {
+                int v = outTarget[u][i];
+                inSource[v][inSize[v]++] = u;
+            }
+        }
+
+        this.ord = new int[c];
+        this.nodeAt = new DAG(dag).getTopologicalOrder();
+        for (int position = 0; position < c; position++) {
+            ord[nodeAt[position]] = position;
+        }
+
+        this.forwardMark = new int[c];
+        this.backwardMark = new int[c];
+        this.stack = new int[c];
+    }
+
+    /**
+     * Inserts an edge into the graph and updates components and order.
+     *
+     * @param from source vertex
+     * @param to target vertex
+     * @param weight edge weight
+     * @return number of components that were merged into one (0 if none)
+     */
+    public int addEdge(int from, int to, int weight) {
+        if (from < 0 || from >= vertexComponent.length || to < 0 || to >= vertexComponent.length) {
+            throw new IllegalArgumentException("Unknown edge: " + from + " -> " + to);
+        }
+        graph.addEdge(from, to, weight);
+        int a = find(vertexComponent[from]);
+        int b = find(vertexComponent[to]);
+        metrics.incrementOperations();
+        if (a == b) {
+            return 0;
+        }
+        appendOut(a, b);
+        appendIn(b, a);
+        if (ord[a] < ord[b]) {
+            return 0;
+        }
+
+        // Search the affected region [ord(b), ord(a)]
+        int lower = ord[b];
+        int upper = ord[a];
+        if (++generation == 0) {
+            Arrays.fill(forwardMark, 0);
+            Arrays.fill(backwardMark, 0);
+            generation = 1;
+        }
+        boolean cycle = searchForward(b, upper, a);
+        searchBackward(a, lower);
+        return reorder(cycle);
+    }
+
+    /**
+     * DFS over out-edges from start, staying at positions up to upper.
+     *
+     * @return true if target was reached
+     */
+    private boolean searchForward(int start, int upper, int target) {
+        forwardSize = 0;
+        int top = 0;
+        stack[top++] = start;
+        forwardMark[start] = generation;
+        boolean reached = false;
+        while (top > 0) {
+            int x = stack[--top];
+            forward = push(forward, forwardSize++, x);
+            if (x == target) {
+                reached = true;
+            }
+            for (int i = 0; i < outSize[x]; i++) {
+                int y = find(outTarget[x][i]);
+                if (y != x && ord[y] <= upper && forwardMark[y] != generation) {
+                    forwardMark[y] = generation;
+                    stack[top++] = y;
+                }
+            }
+            metrics.addOperations(outSize[x] + 1);
+        }
+        return reached;
+    }
+
+    /**
+     * DFS over in-edges from start, staying at positions from lower on.
+     */
+    private void searchBackward(int start, int lower) {
+        backwardSize = 0;
+        int top = 0;
+        stack[top++] = start;
+        backwardMark[start] = generation;
+        while (top > 0) {
+            int x = stack[--top];
+            backward = push(backward, backwardSize++, x);
+            for (int i = 0; i < inSize[x]; i++) {
+                int y = find(inSource[x][i]);
+                if (y != x && ord[y] >= lower && backwardMark[y] != generation) {
+                    backwardMark[y] = generation;
+                    stack[top++] = y;
+                }
+            }
+            metrics.addOperations(inSize[x] + 1);
+        }
+    }
+
+    /**
+     * Hands the region's positions out again as B \ S, merged S, F \ S.
+     *
+     * @return number of components merged
+     */
+    private int reorder(boolean cycle) {
+        int[] pool = new int[forwardSize + backwardSize];
+        int poolSize = 0;
+        int[] before = new int[backwardSize];
+        int beforeSize = 0;
+        int[] after = new int[forwardSize];
+        int afterSize = 0;
+        int[] merged = new int[cycle ? Math.min(forwardSize, backwardSize) : 0];
+        int mergedSize = 0;
+
+        for (int i = 0; i < backwardSize; i++) {
+            int x = backward[i];
+            pool[poolSize++] = ord[x];
+            if (cycle && forwardMark[x] == generation) {
+                merged[mergedSize++] = x;
+            } else {
+                before[beforeSize++] = ord[x];
+            }
+        }
+        for (int i = 0; i < forwardSize; i++) {
+            int x = forward[i];
+            if (cycle && backwardMark[x] == generation) continue;
+            pool[poolSize++] = ord[x];
+            after[afterSize++] = ord[x];
+        }
+        Arrays.sort(pool, 0, poolSize);
+        Arrays.sort(before, 0, beforeSize);
+        Arrays.sort(after, 0, afterSize);
+
+        // Translate positions to components before nodeAt is overwritten
+        int[] sequence = new int[beforeSize + afterSize + (cycle ? 1 : 0)];
+        int next = 0;
+        for (int i = 0; i < beforeSize; i++) {
+            sequence[next++] = nodeAt[before[i]];
+        }
+        if (cycle) {
+            sequence[next++] = merge(merged, mergedSize);
+        }
+        for (int i = 0; i < afterSize; i++) {
+            sequence[next++] = nodeAt[after[i]];
+        }
+
+        // B \ S takes the lowest positions and F \ S the highest, so no component moves
+        // past an unaffected neighbour; positions freed by the merge stay in the middle
+        for (int i = 0; i < poolSize; i++) {
+            nodeAt[pool[i]] = -1;
+        }
+        int middle = next - afterSize;
+        for (int i = 0; i < middle; i++) {
+            nodeAt[pool[i]] = sequence[i];
+            ord[sequence[i]] = pool[i];
+        }
+        for (int i = 0; i < afterSize; i++) {
+            int position = pool[poolSize - afterSize + i];
+            nodeAt[position] = sequence[middle + i];
+            ord[sequence[middle + i]] = position;
+        }
+        metrics.addOperations(poolSize);
+        return cycle ? mergedSize : 0;
+    }
+
+    /**
+     * Unions the components into the one with the longest lists and compacts its lists.
+     *
+     * @return the surviving component
+     */
+    private int merge(int[] members, int count) {
+        int root = members[0];
+        for (int i = 1; i < count; i++) {
+            int m = members[i];
+            if (outSize[m] + inSize[m] > outSize[root] + inSize[root]) {
+                root = m;
+            }
+        }
+        for (int i = 0; i < count; i++) {
+            int m = members[i];
+            if (m == root) continue;
+            parent[m] = root;
+            for (int k = 0; k < outSize[m]; k++) {
+                appendOut(root, outTarget[m][k]);
+            }
+            for (int k = 0; k < inSize[m]; k++) {
+                appendIn(root, inSource[m][k]);
+            }
+            outTarget[m] = inSource[m] = null;
+            outSize[m] = inSize[m] = 0;
+        }
+        componentCount -= count - 1;
+
+        // Resolve ids, drop self-loops and duplicates
+        if (++generation == 0) {
+            Arrays.fill(forwardMark, 0);
+            Arrays.fill(backwardMark, 0);
+            generation = 1;
+        }
+        int size = 0;
+        for (int k = 0; k < outSize[root]; k++) {
+            int y = find(outTarget[root][k]);
+            if (y == root || forwardMark[y] == generation) continue;
+            forwardMark[y] = generation;
+            outTarget[root][size++] = y;
+        }
+        metrics.addOperations(outSize[root] + inSize[root]);
+        outSize[root] = size;
+        size = 0;
+        for (int k = 0; k < inSize[root]; k++) {
+            int y = find(inSource[root][k]);
+            if (y == root || backwardMark[y] == generation) continue;
+            backwardMark[y] = generation;
+            inSource[root][size++] = y;
+        }
+        inSize[root] = size;
+        return root;
+    }
+
+    private int find(int component) {
+        int root = component;
+        while (parent[root] != root) {
+            root = parent[root];
+        }
+        while (parent[component] != root) {
+            int next = parent[component];
+            parent[component] = root;
+            component = next;
+        }
+        return root;
+    }
+
+    private void appendOut(int u, int v) {
+        if (outSize[u] == outTarget[u].length) {
+            outTarget[u] = Arrays.copyOf(outTarget[u], outSize[u] * 2);
+        }
+        outTarget[u][outSize[u]++] = v;
+    }
+
+    private void appendIn(int v, int u) {
+        if (inSize[v] == inSource[v].length) {
+            inSource[v] = Arrays.copyOf(inSource[v], inSize[v] * 2);
+        }
+        inSource[v][inSize[v]++] = u;
+    }
+
+    private static int[] push(int[] list, int size, int value) {
+        if (size == list.length) {
+            list = Arrays.copyOf(list, size * 2);
+        }
+        list[size] = value;
+        return list;
+    }
+
+    /**
+     * Returns the current component of a vertex. Ids come from the initial
+     * decomposition; a merged component keeps the id of one of its parts.
+     *
+     * @param vertex original vertex
+     * @return component id
+     */
+    public int getComponentId(int vertex) {
+        return find(vertexComponent[vertex]);
+    }
+
+    public int getComponentCount() {
+        return componentCount;
+    }
+
+    /**
+     * Current components in topological order.
+     *
+     * @return component ids
+     */
+    public int[] getTopologicalOrder() {
+        int[] order = new int[componentCount];
+        int next = 0;
+        for (int component : nodeAt) {
+            if (component >= 0) {
+                order[next++] = component;
+            }
+        }
+        return order;
+    }
+
+    /**
+     * Builds a snapshot with components numbered 0..C-1 in topological order, so the
+     * identity permutation is a valid order for {@link DAG}. Edges are rebuilt from the
+     * current graph with {@link CondensationBuilder}, under the weight policy of the
+     * starting condensation, so they match a from-scratch condensation with that policy.
+     * Costs O(V + E).
+     *
+     * @return condensation of the current graph
+     */
+    public CondensationGraph toCondensationGraph() {
+        int[] order = getTopologicalOrder();
+        int[] dense = new int[parent.length];
+        for (int i = 0; i < order.length; i++) {
+            dense[order[i]] = i;
+        }
+
+        int[] denseComponent = new int[vertexComponent.length];
+        List<List<Integer>> components = new ArrayList<>(order.length);
+        for (int i = 0; i < order.length; i++) {
+            components.add(new ArrayList<>());
+        }
+        for (int v = 0; v < vertexComponent.length; v++) {
+            denseComponent[v] = dense[find(vertexComponent[v])];
+            components.get(denseComponent[v]).add(v);
+        }
+
+        Graph condensation = CondensationBuilder.build(graph, denseComponent, order.length, policy);
+        return new CondensationGraph(graph, components, denseComponent, condensation, policy);
+    }
+
+    /**
+     * Cumulative work of all insertions: components and edges visited while searching
+     * and reordering.
+     */
+    public Metrics getMetrics() {
+        return metrics;
+    }
+}
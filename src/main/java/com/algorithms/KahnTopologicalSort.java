@@ -1,18 +1,17 @@
 package com.algorithms;
 
-import com.model.Graph;
+import com.model.Adjacency;
 import com.utils.Metrics;
 
 import java.util.*;
 
 // Implementation of Kahn’s algorithm for topological sorting (BFS + in-degree)
+// Each call allocates its own in-degree array and Metrics, so one instance can be shared by threads
 public class KahnTopologicalSort {
-    private final Graph graph;
-    private final Metrics metricsTracker;
+    private final Adjacency graph;
 
-    public KahnTopologicalSort(Graph graph) {
+    public KahnTopologicalSort(Adjacency graph) {
         this.graph = graph;
-        this.metricsTracker = new Metrics();
     }
 
     // Perform topological sorting using Kahn’s Algorithm
@@ -20,13 +19,13 @@ public class KahnTopologicalSort {
         int numVertices = graph.getNumVertices();
         int[] incomingEdges = new int[numVertices];
 
-        metricsTracker.reset();
+        Metrics metricsTracker = new Metrics();
         metricsTracker.startTiming();
 
         // Calculate in-degrees for all vertices
         for (int source = 0; source < numVertices; source++) {
-            for (Graph.Edge edge : graph.getEdgesFrom(source)) {
-                incomingEdges[edge.getDestination()]++;
+            for (int i = 0, degree = graph.outDegree(source); i < degree; i++) {
+                incomingEdges[graph.target(source, i)]++;
                 metricsTracker.incrementOperations();
             }
         }
@@ -47,8 +46,8 @@ public class KahnTopologicalSort {
             topoOrder.add(current);
             metricsTracker.incrementOperations();
 
-            for (Graph.Edge edge : graph.getEdgesFrom(current)) {
-                int neighbor = edge.getDestination();
+            for (int i = 0, degree = graph.outDegree(current); i < degree; i++) {
+                int neighbor = graph.target(current, i);
                 incomingEdges[neighbor]--;
                 metricsTracker.incrementOperations();
 
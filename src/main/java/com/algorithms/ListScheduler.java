@@ -0,0 +1,285 @@
+package com.algorithms;
+
+import com.model.CSRGraph;
+import com.utils.Metrics;
+
+/**
+ * Resource-constrained list scheduling of a condensation DAG on k identical workers.
+ *
+ * Edges are start-to-start lags as in {@link CPM}: a task is released once every
+ * predecessor u has started and {@code start(u) + w} has passed, and merged edges keep
+ * their largest lag ({@link CondensationBuilder.WeightPolicy#MAX}). Each task also has a
+ * duration during which it holds one worker. Whenever workers are idle, the released
+ * task with the largest bottom level (the longest chain of lags to the end of a task,
+ * i.e. critical-path priority) goes first, ties to the smaller id. With at least as many
+ * workers as tasks every task starts at its CPM earliest start. The simulation jumps
+ * from one release or finish time to the next, using binary heaps over int ids with keys
+ * held in long arrays, so no boxing happens on the hot path.
+ *
+ * The topological order and bottom levels do not depend on k and are computed once
+ * in the constructor; each {@link #schedule(int)} call only runs the simulation.
+ *
+ * Time complexity: O((C + E_c) log C) per schedule
+ * Space complexity: O(C + k)
+ */
+public class ListScheduler {
+    private final CondensationGraph condensation;
+    private final CSRGraph dag;
+    private final int[] duration;
+    private final long[] bottomLevel;
+    private final int[] inDegree;
+
+    /**
+     * Creates a scheduler.
+     *
+     * @param condensation SCCs and their DAG, under any weight policy
+     * @param durations non-negative duration of every component
+     */
+    public ListScheduler(CondensationGraph condensation, int[] durations) {
+        this.condensation = condensation.withWeightPolicy(CondensationBuilder.WeightPolicy.MAX);
+        this.dag = CSRGraph.fromGraph(this.condensation.getCondensationGraph());
+        int c = dag.getNumVertices();
+        if (durations.length != c) {
+            throw new IllegalArgumentException(durations.length + " durations for " + c + " components");
+        }
+        for (int d : durations) {
+            if (d < 0) {
+                throw new IllegalArgumentException("Negative duration: " + d);
+            }
+        }
+        this.duration = durations.clone();
+        this.inDegree = new int[c];
+        this.bottomLevel = new long[c];
+
+        int[] order = new DAG(dag).getTopologicalOrder();
+        for (int k = c - 1; k >= 0; k--) {
+            int u = order[k];
+            long longest = duration[u];
+            for (int i = 0, degree = dag.outDegree(u); i < degree; i++) {
+                int v = dag.target(u, i);
+                longest = Math.max(longest, dag.weight(u, i) + bottomLevel[v]);
+                inDegree[v]++;
+            }
+            bottomLevel[u] = longest;
+        }
+    }
+
+    /**
+     * Length of the longest chain of lags plus the duration of its last task: the
+     * makespan with unlimited workers and a lower bound for every k. With zero durations
+     * it is the longest path of the condensation DAG.
+     *
+     * @return critical path length
+     */
+    public long getCriticalPathLength() {
+        long longest = 0;
+        for (long level : bottomLevel) {
+            longest = Math.max(longest, level);
+        }
+        return longest;
+    }
+
+    /**
+     * Simulates the list schedule.
+     *
+     * @param workers number of workers (k)
+     * @return start time and worker of every component, and the makespan
+     */
+    public Schedule schedule(int workers) {
+        if (workers < 1) {
+            throw new IllegalArgumentException("Need at least one worker: " + workers);
+        }
+        int c = dag.getNumVertices();
+        long[] start = new long[c];
+        int[] worker = new int[c];
+        int[] remaining = inDegree.clone();
+        long[] release = new long[c];
+
+        // Ready tasks: highest bottom level first (min-heap on its negation)
+        long[] priority = new long[c];
+        for (int v = 0; v < c; v++) {
+            priority[v] = -bottomLevel[v];
+        }
+        IntHeap ready = new IntHeap(c, priority);
+        // Tasks whose predecessors have all started, earliest release first
+        IntHeap waiting = new IntHeap(c, release);
+        // Running tasks: earliest finish first
+        long[] finish = new long[c];
+        IntHeap running = new IntHeap(Math.min(c, workers), finish);
+        int[] idle = new int[Math.min(c, workers)];
+        int idleCount = idle.length;
+        for (int w = 0; w < idleCount; w++) {
+            idle[w] = idleCount - 1 - w;
+        }
+
+        Metrics metrics = new Metrics();
+        metrics.startTiming();
+        for (int v = 0; v < c; v++) {
+            if (remaining[v] == 0) waiting.push(v);
+        }
+
+        long time = 0;
+        long makespan = 0;
+        int done = 0;
+        while (done < c) {
+            while (!running.isEmpty() && finish[running.peek()] <= time) {
+                idle[idleCount++] = worker[running.pop()];
+                done++;
+            }
+            while (!waiting.isEmpty() && release[waiting.peek()] <= time) {
+                ready.push(waiting.pop());
+            }
+
+            if (idleCount > 0 && !ready.isEmpty()) {
+                // Start one task; zero lags and durations may free more work at this time
+                int task = ready.pop();
+                start[task] = time;
+                worker[task] = idle[--idleCount];
+                finish[task] = time + duration[task];
+                makespan = Math.max(makespan, finish[task]);
+                running.push(task);
+                for (int i = 0, degree = dag.outDegree(task); i < degree; i++) {
+                    int v = dag.target(task, i);
+                    release[v] = Math.max(release[v], time + dag.weight(task, i));
+                    if (--remaining[v] == 0) waiting.push(v);
+                }
+                metrics.addOperations(dag.outDegree(task) + 1);
+                continue;
+            }
+
+            // Advance to the next finish, or release if a worker could take it
+            long next = running.isEmpty() ? Long.MAX_VALUE : finish[running.peek()];
+            if (idleCount > 0 && !waiting.isEmpty()) {
+                next = Math.min(next, release[waiting.peek()]);
+            }
+            time = next;
+        }
+        metrics.stopTiming();
+
+        return new Schedule(condensation, workers, makespan, start, worker, duration, metrics);
+    }
+
+    /**
+     * Binary min-heap of int ids ordered by {@code key[id]}, then by id.
+     */
+    private static final class IntHeap {
+        private final int[] heap;
+        private final long[] key;
+        private int size;
+
+        IntHeap(int capacity, long[] key) {
+            this.heap = new int[Math.max(1, capacity)];
+            this.key = key;
+        }
+
+        boolean isEmpty() {
+            return size == 0;
+        }
+
+        int peek() {
+            return heap[0];
+        }
+
+        void push(int id) {
+            int i = size++;
+            while (i > 0) {
+                int parent = (i - 1) >>> 1;
+                if (!less(id, heap[parent])) break;
+                heap[i] = heap[parent];
+                i = parent;
+            }
+            heap[i] = id;
+        }
+
+        int pop() {
+            int top = heap[0];
+            int last = heap[--size];
+            int i = 0;
+            while (true) {
+                int child = 2 * i + 1;
+                if (child >= size) break;
+                if (child + 1 < size && less(heap[child + 1], heap[child])) child++;
+                if (!less(heap[child], last)) break;
+                heap[i] = heap[child];
+                i = child;
+            }
+            heap[i] = last;
+            return top;
+        }
+
+        private boolean less(int a, int b) {
+            return key[a] < key[b] || (key[a] == key[b] && a < b);
+        }
+    }
+
+    /**
+     * Start time and worker of every component, with vertex-level accessors that look
+     * up the vertex's component first.
+     */
+    public static class Schedule {
+        private final CondensationGraph condensation;
+        private final int workers;
+        private final long makespan;
+        private final long[] start;
+        private final int[] worker;
+        private final int[] duration;
+        private final Metrics metrics;
+
+        public Schedule(CondensationGraph condensation, int workers, long makespan, long[] start,
+                        int[] worker, int[] duration, Metrics metrics) {
+            this.condensation = condensation;
+            this.workers = workers;
+            this.makespan = makespan;
+            this.start = start;
+            this.worker = worker;
+            this.duration = duration;
+            this.metrics = metrics;
+        }
+
+        public int getWorkerCount() {
+            return workers;
+        }
+
+        public long getMakespan() {
+            return makespan;
+        }
+
+        public long getStartTime(int component) {
+            return start[component];
+        }
+
+        public long getFinishTime(int component) {
+            return start[component] + duration[component];
+        }
+
+        public int getWorker(int component) {
+            return worker[component];
+        }
+
+        public long getVertexStartTime(int vertex) {
+            return start[condensation.requireComponentId(vertex)];
+        }
+
+        public int getVertexWorker(int vertex) {
+            return worker[condensation.requireComponentId(vertex)];
+        }
+
+        /**
+         * Share of worker time spent busy.
+         *
+         * @return total duration / (k * makespan), 1 for an empty schedule
+         */
+        public double getUtilization() {
+            if (makespan == 0) return 1.0;
+            long busy = 0;
+            for (int d : duration) {
+                busy += d;
+            }
+            return (double) busy / ((double) workers * makespan);
+        }
+
+        public Metrics getMetrics() {
+            return metrics;
+        }
+    }
+}
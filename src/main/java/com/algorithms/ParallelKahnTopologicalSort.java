@@ -0,0 +1,252 @@
+package com.algorithms;
+
+import com.model.Adjacency;
+import com.utils.Metrics;
+
+import java.util.*;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+/**
+ * Level-synchronous parallel variant of {@link KahnTopologicalSort}.
+ *
+ * The whole zero-in-degree frontier is processed at once: its vertices form one level
+ * (an antichain), their out-edges decrement in-degrees through an {@link AtomicIntegerArray},
+ * and every vertex whose in-degree reaches zero joins the next level. Levels are exactly
+ * the batches of tasks that can run concurrently.
+ *
+ * The order is written level by level into one int[]; each level is sorted ascending,
+ * so the output is identical for any thread count. Small frontiers are processed
+ * sequentially to avoid fork overhead on long chains. No state survives a call.
+ *
+ * Time complexity: O(V log V + E)
+ * Space complexity: O(V)
+ */
+public class ParallelKahnTopologicalSort {
+    private static final int SEQUENTIAL_THRESHOLD = 1024;
+
+    private final Adjacency graph;
+    private final ForkJoinPool pool;
+
+    /**
+     * Creates a parallel sorter running on the common pool.
+     *
+     * @param graph directed graph to sort
+     */
+    public ParallelKahnTopologicalSort(Adjacency graph) {
+        this(graph, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Creates a parallel sorter running on the given pool.
+     *
+     * @param graph directed graph to sort
+     * @param pool pool that processes the frontiers
+     */
+    public ParallelKahnTopologicalSort(Adjacency graph, ForkJoinPool pool) {
+        this.graph = graph;
+        this.pool = pool;
+    }
+
+    /**
+     * Computes a topological order together with the level of every vertex.
+     * On a cyclic graph the order holds only the vertices not on or behind a cycle
+     * and {@link LevelTopoResult#isDAG()} is false, as in {@link KahnTopologicalSort}.
+     *
+     * @return order, levels and metrics
+     */
+    public LevelTopoResult computeTopoOrder() {
+        int n = graph.getNumVertices();
+        AtomicIntegerArray inDegree = new AtomicIntegerArray(n);
+        int[] order = new int[n];
+        int[] level = new int[n];
+        Arrays.fill(level, -1);
+
+        Metrics metrics = new Metrics();
+        metrics.startTiming();
+
+        int[] levelOffsets = pool.invoke(new RecursiveTask<int[]>() {
+            @Override
+            protected int[] compute() {
+                long edges = new InDegreeTask(inDegree, 0, n).invoke();
+                metrics.addOperations(edges);
+
+                AtomicInteger tail = new AtomicInteger();
+                for (int v = 0; v < n; v++) {
+                    if (inDegree.get(v) == 0) {
+                        order[tail.getAndIncrement()] = v;
+                    }
+                }
+                metrics.addOperations(tail.get());
+
+                int[] offsets = new int[16];
+                int levels = 0;
+                int start = 0;
+                while (start < tail.get()) {
+                    int end = tail.get();
+                    if (levels + 1 >= offsets.length) {
+                        offsets = Arrays.copyOf(offsets, offsets.length * 2);
+                    }
+                    offsets[levels] = start;
+                    for (int i = start; i < end; i++) {
+                        level[order[i]] = levels;
+                    }
+                    long relaxed = new FrontierTask(inDegree, order, tail, start, end).invoke();
+                    metrics.addOperations((end - start) + relaxed);
+                    Arrays.sort(order, end, tail.get());
+                    levels++;
+                    start = end;
+                }
+                offsets[levels] = start;
+                return Arrays.copyOf(offsets, levels + 1);
+            }
+        });
+
+        metrics.stopTiming();
+
+        int processed = levelOffsets[levelOffsets.length - 1];
+        return new LevelTopoResult(Arrays.copyOf(order, processed), level, levelOffsets, processed == n, metrics);
+    }
+
+    /**
+     * Counts in-degrees of a vertex range; returns the number of edges scanned.
+     */
+    private class InDegreeTask extends RecursiveTask<Long> {
+        private final AtomicIntegerArray inDegree;
+        private final int from;
+        private final int to;
+
+        InDegreeTask(AtomicIntegerArray inDegree, int from, int to) {
+            this.inDegree = inDegree;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected Long compute() {
+            if (to - from <= SEQUENTIAL_THRESHOLD) {
+                long edges = 0;
+                for (int u = from; u < to; u++) {
+                    for (int i = 0, degree = graph.outDegree(u); i < degree; i++) {
+                        inDegree.incrementAndGet(graph.target(u, i));
+                    }
+                    edges += graph.outDegree(u);
+                }
+                return edges;
+            }
+            int mid = (from + to) >>> 1;
+            InDegreeTask left = new InDegreeTask(inDegree, from, mid);
+            left.fork();
+            long right = new InDegreeTask(inDegree, mid, to).compute();
+            return right + left.join();
+        }
+    }
+
+    /**
+     * Relaxes the out-edges of order[from..to); vertices reaching in-degree zero are
+     * appended after the current tail. Returns the number of edges relaxed.
+     */
+    private class FrontierTask extends RecursiveTask<Long> {
+        private final AtomicIntegerArray inDegree;
+        private final int[] order;
+        private final AtomicInteger tail;
+        private final int from;
+        private final int to;
+
+        FrontierTask(AtomicIntegerArray inDegree, int[] order, AtomicInteger tail, int from, int to) {
+            this.inDegree = inDegree;
+            this.order = order;
+            this.tail = tail;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected Long compute() {
+            if (to - from <= SEQUENTIAL_THRESHOLD) {
+                long edges = 0;
+                for (int k = from; k < to; k++) {
+                    int u = order[k];
+                    for (int i = 0, degree = graph.outDegree(u); i < degree; i++) {
+                        int v = graph.target(u, i);
+                        if (inDegree.decrementAndGet(v) == 0) {
+                            order[tail.getAndIncrement()] = v;
+                        }
+                    }
+                    edges += graph.outDegree(u);
+                }
+                return edges;
+            }
+            int mid = (from + to) >>> 1;
+            FrontierTask left = new FrontierTask(inDegree, order, tail, from, mid);
+            left.fork();
+            long right = new FrontierTask(inDegree, order, tail, mid, to).compute();
+            return right + left.join();
+        }
+    }
+
+    /**
+     * Topological order with level (antichain) information.
+     * {@link #getOrder()} is the concatenation of the levels.
+     */
+    public static class LevelTopoResult extends KahnTopologicalSort.TopoResult {
+        private final int[] order;
+        private final int[] level;
+        private final int[] levelOffsets;
+
+        public LevelTopoResult(int[] order, int[] level, int[] levelOffsets, boolean acyclicGraph, Metrics metrics) {
+            super(toList(order), acyclicGraph, metrics);
+            this.order = order;
+            this.level = level;
+            this.levelOffsets = levelOffsets;
+        }
+
+        private static List<Integer> toList(int[] order) {
+            List<Integer> list = new ArrayList<>(order.length);
+            for (int v : order) {
+                list.add(v);
+            }
+            return list;
+        }
+
+        /**
+         * Returns the order as a primitive array.
+         *
+         * @return vertices in topological order
+         */
+        public int[] getOrderArray() {
+            return order;
+        }
+
+        /**
+         * Returns the number of levels.
+         *
+         * @return level count
+         */
+        public int getLevelCount() {
+            return levelOffsets.length - 1;
+        }
+
+        /**
+         * Returns the level of a vertex.
+         *
+         * @param vertex vertex ID
+         * @return level index, or -1 if the vertex is on or behind a cycle
+         */
+        public int getLevel(int vertex) {
+            return level[vertex];
+        }
+
+        /**
+         * Returns the vertices of one level, ascending.
+         *
+         * @param index level index in [0, getLevelCount())
+         * @return vertices that can be processed concurrently
+         */
+        public List<Integer> getLevelVertices(int index) {
+            return getOrder().subList(levelOffsets[index], levelOffsets[index + 1]);
+        }
+    }
+}
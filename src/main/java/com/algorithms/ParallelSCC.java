@@ -0,0 +1,383 @@
+package com.algorithms;
+
+import com.model.Adjacency;
+import com.utils.Metrics;
+
+import java.util.*;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.IntStream;
+
+/**
+ * Parallel strongly connected component decomposition (trim + forward-backward).
+ * Drop-in alternative to {@link SCC} for large graphs on multi-core machines.
+ *
+ * 1. Trim: vertices with no active predecessor or no active successor are
+ *    singleton SCCs; they are peeled off level by level in parallel.
+ * 2. Forward-backward: pick a pivot, compute its forward and backward reachable
+ *    sets inside the current partition; their intersection is one SCC and the
+ *    three remaining sets are independent subproblems forked on the pool.
+ * Small partitions fall back to a sequential Tarjan restricted to the partition.
+ *
+ * Components are returned with ascending vertex lists, ordered by their smallest
+ * vertex, so the output is identical for any thread count. Working arrays live
+ * in a per-call object, so one solver may be invoked from several threads.
+ *
+ * Time complexity: O(V + E) per recursion level, expected O((V + E) log V)
+ * Space complexity: O(V + E) (reverse adjacency is materialized)
+ */
+public class ParallelSCC {
+    private static final int SEQUENTIAL_THRESHOLD = 2048;
+
+    private final Adjacency graph;
+    private final ForkJoinPool pool;
+
+    /**
+     * Creates a parallel SCC solver running on the common pool.
+     *
+     * @param graph directed graph for SCC analysis
+     */
+    public ParallelSCC(Adjacency graph) {
+        this(graph, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Creates a parallel SCC solver running on the given pool.
+     *
+     * @param graph directed graph for SCC analysis
+     * @param pool pool that executes the decomposition
+     */
+    public ParallelSCC(Adjacency graph, ForkJoinPool pool) {
+        this.graph = graph;
+        this.pool = pool;
+    }
+
+    /**
+     * Finds all strongly connected components in the graph.
+     *
+     * @return components and metrics, in the same shape as {@link SCC#computeSCCs()}
+     */
+    public SCC.SCCResult computeSCCs() {
+        Metrics metrics = new Metrics();
+        metrics.startTiming();
+
+        Decomposition decomposition = new Decomposition(graph.getNumVertices());
+        pool.invoke(new RecursiveAction() {
+            @Override
+            protected void compute() {
+                decomposition.run();
+            }
+        });
+
+        List<List<Integer>> components = decomposition.collectComponents();
+        metrics.addOperations(decomposition.operations.sum());
+        metrics.stopTiming();
+        return new SCC.SCCResult(components, metrics);
+    }
+
+    /**
+     * Working state of one {@link #computeSCCs()} call, so a solver instance
+     * can be shared by concurrent callers.
+     */
+    private class Decomposition {
+        private final int[] partition;
+        private final int[] label;
+        private final int[] localIndex;
+        private final AtomicInteger nextId = new AtomicInteger(1);
+        private final LongAdder operations = new LongAdder();
+        private int[] reverseOffsets;
+        private int[] reverseSources;
+
+        Decomposition(int n) {
+            partition = new int[n];
+            label = new int[n];
+            localIndex = new int[n];
+            Arrays.fill(label, -1);
+        }
+
+        /**
+         * Runs inside the pool: reverse adjacency, trim, then forward-backward.
+         */
+        void run() {
+            buildReverse();
+            int[] remaining = trim();
+            if (remaining.length > 0) {
+                new ForwardBackwardTask(remaining, 0).compute();
+            }
+        }
+
+        /**
+         * Materializes the reverse adjacency in CSR form.
+         */
+        private void buildReverse() {
+            int n = graph.getNumVertices();
+            reverseOffsets = new int[n + 1];
+            for (int u = 0; u < n; u++) {
+                for (int i = 0, degree = graph.outDegree(u); i < degree; i++) {
+                    reverseOffsets[graph.target(u, i) + 1]++;
+                }
+            }
+            for (int v = 0; v < n; v++) {
+                reverseOffsets[v + 1] += reverseOffsets[v];
+            }
+
+            reverseSources = new int[reverseOffsets[n]];
+            int[] cursor = Arrays.copyOf(reverseOffsets, n);
+            for (int u = 0; u < n; u++) {
+                for (int i = 0, degree = graph.outDegree(u); i < degree; i++) {
+                    reverseSources[cursor[graph.target(u, i)]++] = u;
+                }
+            }
+            operations.add(reverseSources.length);
+        }
+
+        /**
+         * Repeatedly removes vertices without active predecessors or successors.
+         * Each removed vertex becomes a singleton component.
+         *
+         * @return vertices that survived trimming, in ascending order
+         */
+        private int[] trim() {
+            int n = graph.getNumVertices();
+            AtomicIntegerArray inDegree = new AtomicIntegerArray(n);
+            AtomicIntegerArray outDegree = new AtomicIntegerArray(n);
+            AtomicIntegerArray queued = new AtomicIntegerArray(n);
+
+            IntStream.range(0, n).parallel().forEach(v -> {
+                int out = 0;
+                for (int i = 0, degree = graph.outDegree(v); i < degree; i++) {
+                    if (graph.target(v, i) != v) out++;
+                }
+                int in = 0;
+                for (int e = reverseOffsets[v]; e < reverseOffsets[v + 1]; e++) {
+                    if (reverseSources[e] != v) in++;
+                }
+                outDegree.set(v, out);
+                inDegree.set(v, in);
+            });
+
+            int[] frontier = IntStream.range(0, n).parallel()
+                    .filter(v -> (inDegree.get(v) == 0 || outDegree.get(v) == 0) && queued.compareAndSet(v, 0, 1))
+                    .toArray();
+
+            while (frontier.length > 0) {
+                for (int v : frontier) {
+                    label[v] = nextId.getAndIncrement();
+                    partition[v] = -1;
+                }
+                operations.add(frontier.length);
+
+                frontier = Arrays.stream(frontier).parallel().flatMap(v -> {
+                    IntStream.Builder next = IntStream.builder();
+                    for (int i = 0, degree = graph.outDegree(v); i < degree; i++) {
+                        int w = graph.target(v, i);
+                        if (w != v && inDegree.decrementAndGet(w) == 0 && queued.compareAndSet(w, 0, 1)) {
+                            next.add(w);
+                        }
+                    }
+                    for (int e = reverseOffsets[v]; e < reverseOffsets[v + 1]; e++) {
+                        int w = reverseSources[e];
+                        if (w != v && outDegree.decrementAndGet(w) == 0 && queued.compareAndSet(w, 0, 1)) {
+                            next.add(w);
+                        }
+                    }
+                    return next.build();
+                }).toArray();
+            }
+
+            return IntStream.range(0, n).filter(v -> queued.get(v) == 0).toArray();
+        }
+
+        /**
+         * Groups vertices by label; lists come out ascending and ordered by their smallest vertex.
+         */
+        private List<List<Integer>> collectComponents() {
+            Map<Integer, List<Integer>> byLabel = new LinkedHashMap<>();
+            for (int v = 0; v < label.length; v++) {
+                byLabel.computeIfAbsent(label[v], k -> new ArrayList<>()).add(v);
+            }
+            return new ArrayList<>(byLabel.values());
+        }
+
+        /**
+         * Forward-backward step on one partition. Partitions are disjoint, so
+         * concurrent tasks never write the same entries of the shared arrays.
+         */
+        private class ForwardBackwardTask extends RecursiveAction {
+            private final int[] vertices;
+            private final int id;
+
+            ForwardBackwardTask(int[] vertices, int id) {
+                this.vertices = vertices;
+                this.id = id;
+            }
+
+            @Override
+            protected void compute() {
+                if (vertices.length <= SEQUENTIAL_THRESHOLD) {
+                    tarjan();
+                    return;
+                }
+
+                int pivot = vertices[vertices.length / 2];
+                int forwardId = nextId.getAndIncrement();
+                int backwardId = nextId.getAndIncrement();
+                int sccId = nextId.getAndIncrement();
+
+                int[] queue = new int[vertices.length];
+                long scanned = 0;
+
+                // Forward reachability: id -> forwardId
+                int head = 0, tail = 0;
+                partition[pivot] = forwardId;
+                queue[tail++] = pivot;
+                while (head < tail) {
+                    int u = queue[head++];
+                    for (int i = 0, degree = graph.outDegree(u); i < degree; i++) {
+                        int w = graph.target(u, i);
+                        scanned++;
+                        if (partition[w] == id && label[w] == -1) {
+                            partition[w] = forwardId;
+                            queue[tail++] = w;
+                        }
+                    }
+                }
+
+                // Backward reachability: forwardId -> sccId, id -> backwardId
+                head = 0;
+                tail = 0;
+                partition[pivot] = sccId;
+                queue[tail++] = pivot;
+                while (head < tail) {
+                    int u = queue[head++];
+                    for (int e = reverseOffsets[u]; e < reverseOffsets[u + 1]; e++) {
+                        int w = reverseSources[e];
+                        scanned++;
+                        if (label[w] != -1) continue;
+                        if (partition[w] == forwardId) {
+                            partition[w] = sccId;
+                            queue[tail++] = w;
+                        } else if (partition[w] == id) {
+                            partition[w] = backwardId;
+                            queue[tail++] = w;
+                        }
+                    }
+                }
+                operations.add(scanned);
+
+                int forwardCount = 0, backwardCount = 0, restCount = 0;
+                for (int v : vertices) {
+                    int p = partition[v];
+                    if (p == sccId) {
+                        label[v] = sccId;
+                    } else if (p == forwardId) {
+                        forwardCount++;
+                    } else if (p == backwardId) {
+                        backwardCount++;
+                    } else {
+                        restCount++;
+                    }
+                }
+
+                int[] forward = new int[forwardCount];
+                int[] backward = new int[backwardCount];
+                int[] rest = new int[restCount];
+                forwardCount = backwardCount = restCount = 0;
+                for (int v : vertices) {
+                    int p = partition[v];
+                    if (p == forwardId) {
+                        forward[forwardCount++] = v;
+                    } else if (p == backwardId) {
+                        backward[backwardCount++] = v;
+                    } else if (p == id) {
+                        rest[restCount++] = v;
+                    }
+                }
+
+                List<ForwardBackwardTask> subtasks = new ArrayList<>(3);
+                if (forward.length > 0) subtasks.add(new ForwardBackwardTask(forward, forwardId));
+                if (backward.length > 0) subtasks.add(new ForwardBackwardTask(backward, backwardId));
+                if (rest.length > 0) subtasks.add(new ForwardBackwardTask(rest, id));
+                invokeAll(subtasks);
+            }
+
+            /**
+             * Sequential iterative Tarjan restricted to this partition.
+             */
+            private void tarjan() {
+                int size = vertices.length;
+                for (int i = 0; i < size; i++) {
+                    localIndex[vertices[i]] = i;
+                }
+
+                int[] discovery = new int[size];
+                int[] lowLink = new int[size];
+                boolean[] inStack = new boolean[size];
+                int[] stack = new int[size];
+                int[] frameVertex = new int[size];
+                int[] frameEdge = new int[size];
+                Arrays.fill(discovery, -1);
+                int timer = 0;
+                int stackSize = 0;
+                long scanned = 0;
+
+                for (int r = 0; r < size; r++) {
+                    if (discovery[r] != -1) continue;
+
+                    int depth = 0;
+                    frameVertex[0] = r;
+                    frameEdge[0] = 0;
+                    discovery[r] = lowLink[r] = timer++;
+                    stack[stackSize++] = r;
+                    inStack[r] = true;
+
+                    while (depth >= 0) {
+                        int lu = frameVertex[depth];
+                        int u = vertices[lu];
+                        int i = frameEdge[depth];
+
+                        if (i < graph.outDegree(u)) {
+                            frameEdge[depth] = i + 1;
+                            int w = graph.target(u, i);
+                            scanned++;
+                            if (partition[w] != id || label[w] != -1) continue;
+
+                            int lw = localIndex[w];
+                            if (discovery[lw] == -1) {
+                                discovery[lw] = lowLink[lw] = timer++;
+                                stack[stackSize++] = lw;
+                                inStack[lw] = true;
+                                depth++;
+                                frameVertex[depth] = lw;
+                                frameEdge[depth] = 0;
+                            } else if (inStack[lw]) {
+                                lowLink[lu] = Math.min(lowLink[lu], discovery[lw]);
+                            }
+                            continue;
+                        }
+
+                        if (lowLink[lu] == discovery[lu]) {
+                            int componentId = nextId.getAndIncrement();
+                            int lw;
+                            do {
+                                lw = stack[--stackSize];
+                                inStack[lw] = false;
+                                label[vertices[lw]] = componentId;
+                            } while (lw != lu);
+                        }
+
+                        depth--;
+                        if (depth >= 0) {
+                            int parent = frameVertex[depth];
+                            lowLink[parent] = Math.min(lowLink[parent], lowLink[lu]);
+                        }
+                    }
+                }
+                operations.add(scanned);
+            }
+        }
+    }
+}
@@ -0,0 +1,429 @@
+package com.algorithms;
+
+import com.model.Adjacency;
+import com.utils.Metrics;
+
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Monte Carlo PERT simulation of the makespan of a DAG whose edge weights are
+ * estimated durations.
+ *
+ * Every trial samples a duration for each edge around its weight w, between
+ * {@code w * lowFactor} and {@code w * highFactor} with mode w, then runs one
+ * longest-path sweep over the topological order cached by {@link DAG} and walks
+ * back the critical path of that trial. Trials run in parallel on a ForkJoin pool;
+ * each leaf task owns its scratch arrays and criticality counters, which are summed
+ * when tasks join. Trial t always uses the random stream derived from (seed, t),
+ * so results do not depend on the pool size.
+ *
+ * Because the bounds are multiples of the weight, every edge shares one
+ * distribution shape: a duration is the weight times a factor drawn from that shape.
+ * For PERT-beta the factor is read from a precomputed quantile table, which replaces
+ * two gamma draws per edge with one uniform draw and an interpolation.
+ *
+ * Time complexity: O(T * (V + E)) for T trials
+ * Space complexity: O(T + P * (V + E)) with P leaf tasks
+ */
+public class PertSimulation {
+    /**
+     * Duration distribution between the optimistic, most likely and pessimistic estimates.
+     */
+    public enum Distribution {
+        /** Triangular distribution, sampled by inverting its CDF. */
+        TRIANGULAR,
+        /** PERT-beta: Beta(1 + 4(m-a)/(b-a), 1 + 4(b-m)/(b-a)) scaled to [a, b]. */
+        PERT_BETA
+    }
+
+    private static final int QUANTILES = 4096;
+    private static final int CDF_STEPS = 1 << 16;
+
+    private final int[] order;
+    private final int[] offset;
+    private final int[] edgeSource;
+    private final int[] edgeTarget;
+    private final double[] weight;
+    private final double lowFactor;
+    private final double highFactor;
+    private final double[] quantiles;
+    private final Distribution distribution;
+    private final ForkJoinPool pool;
+
+    /**
+     * Creates a simulation on the common pool.
+     *
+     * @param dag analyzer whose graph and topological order are shared by all trials
+     * @param distribution duration distribution
+     * @param lowFactor optimistic duration as a multiple of the weight
+     * @param highFactor pessimistic duration as a multiple of the weight
+     */
+    public PertSimulation(DAG dag, Distribution distribution, double lowFactor, double highFactor) {
+        this(dag, distribution, lowFactor, highFactor, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Creates a simulation on the given pool.
+     *
+     * @param dag analyzer whose graph and topological order are shared by all trials
+     * @param distribution duration distribution
+     * @param lowFactor optimistic duration as a multiple of the weight, at most 1
+     * @param highFactor pessimistic duration as a multiple of the weight, at least 1
+     * @param pool pool that runs the trials
+     */
+    public PertSimulation(DAG dag, Distribution distribution, double lowFactor, double highFactor,
+                          ForkJoinPool pool) {
+        if (lowFactor < 0 || lowFactor > 1 || highFactor < 1) {
+            throw new IllegalArgumentException("Need 0 <= lowFactor <= 1 <= highFactor: "
+                    + lowFactor + ", " + highFactor);
+        }
+        Adjacency graph = dag.getGraph();
+        int n = graph.getNumVertices();
+        this.order = dag.getTopologicalOrder();
+        this.distribution = distribution;
+        this.pool = pool;
+        this.lowFactor = lowFactor;
+        this.highFactor = highFactor;
+        this.quantiles = distribution == Distribution.PERT_BETA && highFactor > lowFactor
+                ? betaQuantiles(1 + 4 * (1 - lowFactor) / (highFactor - lowFactor),
+                                1 + 4 * (highFactor - 1) / (highFactor - lowFactor))
+                : null;
+
+        // Flatten the graph once so the sweeps only touch primitive arrays
+        this.offset = new int[n + 1];
+        for (int u = 0; u < n; u++) {
+            offset[u + 1] = offset[u] + graph.outDegree(u);
+        }
+        int edges = offset[n];
+        this.edgeSource = new int[edges];
+        this.edgeTarget = new int[edges];
+        this.weight = new double[edges];
+        for (int u = 0; u < n; u++) {
+            for (int i = 0, degree = graph.outDegree(u); i < degree; i++) {
+                int e = offset[u] + i;
+                edgeSource[e] = u;
+                edgeTarget[e] = graph.target(u, i);
+                weight[e] = graph.weight(u, i);
+            }
+        }
+    }
+
+    /**
+     * Runs the trials.
+     *
+     * @param trials number of sampled projects
+     * @param seed base seed; trial t uses a stream derived from (seed, t)
+     * @return makespan distribution and criticality indices
+     */
+    public SimulationResult run(int trials, long seed) {
+        if (trials < 1) {
+            throw new IllegalArgumentException("Need at least one trial: " + trials);
+        }
+        double[] makespans = new double[trials];
+        Metrics metrics = new Metrics();
+
+        metrics.startTiming();
+        Counts counts = pool.invoke(new TrialTask(makespans, 0, trials, seed));
+        metrics.stopTiming();
+        metrics.addOperations(counts.operations);
+
+        return new SimulationResult(makespans, counts.edgeCritical, counts.vertexCritical, offset, metrics);
+    }
+
+    /**
+     * Criticality counters of a range of trials.
+     */
+    private static final class Counts {
+        final int[] edgeCritical;
+        final int[] vertexCritical;
+        long operations;
+
+        Counts(int edges, int vertices) {
+            edgeCritical = new int[edges];
+            vertexCritical = new int[vertices];
+        }
+
+        Counts add(Counts other) {
+            for (int e = 0; e < edgeCritical.length; e++) {
+                edgeCritical[e] += other.edgeCritical[e];
+            }
+            for (int v = 0; v < vertexCritical.length; v++) {
+                vertexCritical[v] += other.vertexCritical[v];
+            }
+            operations += other.operations;
+            return this;
+        }
+    }
+
+    /**
+     * Splits the trials until each leaf holds a few; a leaf reuses one set of
+     * scratch arrays for all of its trials.
+     */
+    private class TrialTask extends RecursiveTask<Counts> {
+        private final double[] makespans;
+        private final int from;
+        private final int to;
+        private final long seed;
+
+        TrialTask(double[] makespans, int from, int to, long seed) {
+            this.makespans = makespans;
+            this.from = from;
+            this.to = to;
+            this.seed = seed;
+        }
+
+        @Override
+        protected Counts compute() {
+            int leafTrials = Math.max(1, makespans.length / (pool.getParallelism() * 4));
+            if (to - from <= leafTrials) {
+                return runLeaf();
+            }
+            int mid = (from + to) >>> 1;
+            TrialTask left = new TrialTask(makespans, from, mid, seed);
+            left.fork();
+            Counts right = new TrialTask(makespans, mid, to, seed).compute();
+            return left.join().add(right);
+        }
+
+        private Counts runLeaf() {
+            int n = order.length;
+            Counts counts = new Counts(edgeTarget.length, n);
+            double[] finish = new double[n];
+            int[] bestEdge = new int[n];
+            SplitMix random = new SplitMix(0);
+
+            for (int trial = from; trial < to; trial++) {
+                random.reset(SplitMix.trialState(seed, trial));
+                Arrays.fill(finish, 0.0);
+                Arrays.fill(bestEdge, -1);
+
+                // Longest path from a virtual source: sample each edge as it is relaxed
+                for (int u : order) {
+                    double fu = finish[u];
+                    for (int e = offset[u], end = offset[u + 1]; e < end; e++) {
+                        double candidate = fu + weight[e] * sampleFactor(random);
+                        int v = edgeTarget[e];
+                        if (candidate > finish[v]) {
+                            finish[v] = candidate;
+                            bestEdge[v] = e;
+                        }
+                    }
+                }
+
+                int last = -1;
+                double makespan = 0.0;
+                for (int v = 0; v < n; v++) {
+                    if (last < 0 || finish[v] > makespan) {
+                        makespan = finish[v];
+                        last = v;
+                    }
+                }
+                makespans[trial] = makespan;
+
+                // Walk back this trial's critical path
+                for (int v = last; v >= 0; ) {
+                    counts.vertexCritical[v]++;
+                    int e = bestEdge[v];
+                    if (e < 0) break;
+                    counts.edgeCritical[e]++;
+                    v = edgeSource[e];
+                }
+                counts.operations += edgeTarget.length + n;
+            }
+            return counts;
+        }
+    }
+
+    /**
+     * Draws a duration factor in [lowFactor, highFactor] with mode 1.
+     */
+    private double sampleFactor(SplitMix random) {
+        double a = lowFactor;
+        double b = highFactor;
+        if (b <= a) {
+            return a;
+        }
+        double u = random.nextDouble();
+        if (quantiles != null) {
+            double x = u * QUANTILES;
+            int k = (int) x;
+            return quantiles[k] + (x - k) * (quantiles[k + 1] - quantiles[k]);
+        }
+        double split = (1 - a) / (b - a);
+        return u < split
+                ? a + Math.sqrt(u * (b - a) * (1 - a))
+                : b - Math.sqrt((1 - u) * (b - a) * (b - 1));
+    }
+
+    /**
+     * Inverse CDF of Beta(alpha, beta) scaled to [lowFactor, highFactor], tabulated at
+     * QUANTILES + 1 evenly spaced probabilities. The CDF is integrated numerically with
+     * the trapezoid rule; both shapes are at least 1, so the density is bounded.
+     */
+    private double[] betaQuantiles(double alpha, double beta) {
+        double[] cdf = new double[CDF_STEPS + 1];
+        double previous = density(0, alpha, beta);
+        for (int i = 1; i <= CDF_STEPS; i++) {
+            double current = density((double) i / CDF_STEPS, alpha, beta);
+            cdf[i] = cdf[i - 1] + (previous + current) / (2.0 * CDF_STEPS);
+            previous = current;
+        }
+
+        double[] table = new double[QUANTILES + 1];
+        for (int k = 0, i = 0; k <= QUANTILES; k++) {
+            double target = cdf[CDF_STEPS] * k / QUANTILES;
+            while (i < CDF_STEPS && cdf[i + 1] < target) {
+                i++;
+            }
+            double width = cdf[Math.min(i + 1, CDF_STEPS)] - cdf[i];
+            double x = (i + (width > 0 ? Math.min(1.0, (target - cdf[i]) / width) : 0)) / CDF_STEPS;
+            table[k] = lowFactor + (highFactor - lowFactor) * x;
+        }
+        return table;
+    }
+
+    private static double density(double x, double alpha, double beta) {
+        return Math.pow(x, alpha - 1) * Math.pow(1 - x, beta - 1);
+    }
+
+    /**
+     * Small splittable-style generator that can be re-seeded per trial without allocating.
+     */
+    private static final class SplitMix {
+        private long state;
+
+        SplitMix(long seed) {
+            reset(seed);
+        }
+
+        void reset(long seed) {
+            state = seed;
+        }
+
+        /**
+         * Starting state of one trial: the finalizer scrambles seed + G * trial, so the
+         * Weyl sequences of different trials start at unrelated points instead of being
+         * shifted copies of each other.
+         */
+        static long trialState(long seed, int trial) {
+            return mix(seed + 0x9E3779B97F4A7C15L * trial);
+        }
+
+        private static long mix(long z) {
+            z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+            z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+            return z ^ (z >>> 31);
+        }
+
+        long nextLong() {
+            return mix(state += 0x9E3779B97F4A7C15L);
+        }
+
+        double nextDouble() {
+            return (nextLong() >>> 11) * 0x1.0p-53;
+        }
+    }
+
+    /**
+     * Makespan samples and how often each edge and vertex lay on the critical path.
+     */
+    public static class SimulationResult {
+        private final double[] makespans;
+        private final double[] sorted;
+        private final int[] edgeCritical;
+        private final int[] vertexCritical;
+        private final int[] offset;
+        private final Metrics metrics;
+
+        public SimulationResult(double[] makespans, int[] edgeCritical, int[] vertexCritical,
+                                int[] offset, Metrics metrics) {
+            this.makespans = makespans;
+            this.sorted = makespans.clone();
+            Arrays.sort(sorted);
+            this.edgeCritical = edgeCritical;
+            this.vertexCritical = vertexCritical;
+            this.offset = offset;
+            this.metrics = metrics;
+        }
+
+        public int getTrials() {
+            return sorted.length;
+        }
+
+        public double getMean() {
+            double sum = 0;
+            for (double x : sorted) {
+                sum += x;
+            }
+            return sum / sorted.length;
+        }
+
+        public double getStdDev() {
+            double mean = getMean();
+            double sum = 0;
+            for (double x : sorted) {
+                sum += (x - mean) * (x - mean);
+            }
+            return Math.sqrt(sum / sorted.length);
+        }
+
+        /**
+         * Makespan of one trial, in trial order.
+         *
+         * @param trial trial index
+         * @return sampled makespan
+         */
+        public double getTrialMakespan(int trial) {
+            return makespans[trial];
+        }
+
+        public double getMin() {
+            return sorted[0];
+        }
+
+        public double getMax() {
+            return sorted[sorted.length - 1];
+        }
+
+        /**
+         * Returns a makespan percentile (nearest rank).
+         *
+         * @param p percentile in [0, 100]
+         * @return smallest sampled makespan with at least p% of trials at or below it
+         */
+        public double getPercentile(double p) {
+            if (p < 0 || p > 100) {
+                throw new IllegalArgumentException("Percentile out of range: " + p);
+            }
+            int rank = (int) Math.ceil(p / 100.0 * sorted.length);
+            return sorted[Math.max(0, rank - 1)];
+        }
+
+        /**
+         * Fraction of trials in which an edge was on the critical path.
+         *
+         * @param vertex edge source
+         * @param index position of the edge in the source's adjacency
+         * @return criticality index in [0, 1]
+         */
+        public double getEdgeCriticality(int vertex, int index) {
+            return (double) edgeCritical[offset[vertex] + index] / sorted.length;
+        }
+
+        /**
+         * Fraction of trials in which a vertex was on the critical path.
+         *
+         * @param vertex vertex of the simulated DAG
+         * @return criticality index in [0, 1]
+         */
+        public double getVertexCriticality(int vertex) {
+            return (double) vertexCritical[vertex] / sorted.length;
+        }
+
+        public Metrics getMetrics() {
+            return metrics;
+        }
+    }
+}
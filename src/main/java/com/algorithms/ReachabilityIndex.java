@@ -0,0 +1,45 @@
+package com.algorithms;
+
+import com.utils.Metrics;
+
+/**
+ * Precomputed answer to "can vertex {@code from} reach vertex {@code to}?"
+ * over the original vertices of a {@link CondensationGraph}.
+ * Vertices of the same SCC always reach each other.
+ */
+public interface ReachabilityIndex {
+
+    /**
+     * Tests whether a path from one original vertex to another exists.
+     *
+     * @param from start vertex
+     * @param to end vertex
+     * @return true if {@code to} is reachable from {@code from} (always true for from == to)
+     */
+    boolean reaches(int from, int to);
+
+    /**
+     * Tests whether a task (transitively) depends on another, i.e. the prerequisite reaches it.
+     *
+     * @param task dependent vertex
+     * @param prerequisite vertex that may have to run first
+     * @return true if {@code prerequisite} reaches {@code task}
+     */
+    default boolean dependsOn(int task, int prerequisite) {
+        return reaches(prerequisite, task);
+    }
+
+    /**
+     * Returns the approximate heap size of the index.
+     *
+     * @return bytes held by the index structures
+     */
+    long getMemoryBytes();
+
+    /**
+     * Returns the operations and time spent building the index.
+     *
+     * @return build metrics
+     */
+    Metrics getBuildMetrics();
+}
@@ -1,5 +1,6 @@
 package com.algorithms;
 
+import com.model.Adjacency;
 import com.model.Graph;
 import com.utils.Metrics;
 
@@ -11,102 +12,153 @@ import java.util.*;
  *
  * This algorithm performs a single DFS traversal and uses
  * discovery times with low-link values to determine SCC roots.
+ * The DFS is iterative: an explicit frame stack of (vertex, edge cursor)
+ * pairs replaces recursion, so long dependency chains cannot overflow
+ * the thread stack.
  *
  * Time complexity: O(V + E)
  * Space complexity: O(V)
  */
 public class SCC {
-    private final Graph graph;
-    private final Metrics metrics;
-
-    private int timer;
-    private int[] discovery;
-    private int[] lowLink;
-    private boolean[] inStack;
-    private Stack<Integer> stack;
-    private List<List<Integer>> components;
+    private final Adjacency graph;
 
     /**
      * Constructs a TarjanSCC instance for the specified graph.
      *
-     * @param graph Directed graph for SCC analysis
+     * @param graph Directed graph for SCC analysis ({@link Graph} or {@link com.model.CSRGraph})
      */
-    public SCC(Graph graph) {
+    public SCC(Adjacency graph) {
         this.graph = graph;
-        this.metrics = new Metrics();
     }
 
     /**
-     * Finds all strongly connected components in the graph.*/
+     * Finds all strongly connected components in the graph.
+     * Each call owns its working arrays and {@link Metrics}, so one instance
+     * may be shared across threads.*/
     public SCCResult computeSCCs() {
-        int numVertices = graph.getNumVertices();
-        discovery = new int[numVertices];
-        lowLink = new int[numVertices];
-        inStack = new boolean[numVertices];
-        stack = new Stack<>();
-        components = new ArrayList<>();
-
-        Arrays.fill(discovery, -1);
-        Arrays.fill(lowLink, -1);
-
-        timer = 0;
-        metrics.reset();
-        metrics.startTiming();
-
-        for (int node = 0; node < numVertices; node++) {
-            if (discovery[node] == -1) {
-                dfs(node);
+        Traversal traversal = new Traversal(graph.getNumVertices());
+
+        traversal.metrics.startTiming();
+        for (int node = 0; node < graph.getNumVertices(); node++) {
+            if (traversal.discovery[node] == -1) {
+                traversal.dfs(node);
             }
         }
+        traversal.metrics.stopTiming();
 
-        metrics.stopTiming();
-        return new SCCResult(components, metrics);
+        return new SCCResult(traversal.components, traversal.metrics);
     }
 
     /**
-     * Recursive DFS used by Tarjan’s algorithm to detect SCCs.
-     *
-     * @param u current vertex
+     * Working state of one {@link #computeSCCs()} call.
      */
-    private void dfs(int u) {
-        discovery[u] = lowLink[u] = timer++;
-        stack.push(u);
-        inStack[u] = true;
-        metrics.incrementOperations();
-
-        for (Graph.Edge edge : graph.getEdgesFrom(u)) {
-            int v = edge.getDestination();
-            metrics.incrementOperations();
+    private class Traversal {
+        private final Metrics metrics = new Metrics();
+        private final List<List<Integer>> components = new ArrayList<>();
+        private final int[] discovery;
+        private final int[] lowLink;
+        private final boolean[] inStack;
+        private final int[] stack;
+        private final int[] frameVertex;
+        private final int[] frameEdge;
+        private int stackSize;
+        private int timer;
+
+        Traversal(int numVertices) {
+            discovery = new int[numVertices];
+            lowLink = new int[numVertices];
+            inStack = new boolean[numVertices];
+            stack = new int[numVertices];
+            frameVertex = new int[numVertices];
+            frameEdge = new int[numVertices];
+            Arrays.fill(discovery, -1);
+            Arrays.fill(lowLink, -1);
+        }
 
-            if (discovery[v] == -1) {
-                dfs(v);
-                lowLink[u] = Math.min(lowLink[u], lowLink[v]);
-            } else if (inStack[v]) {
-                lowLink[u] = Math.min(lowLink[u], discovery[v]);
+        /**
+         * Iterative DFS used by Tarjan’s algorithm to detect SCCs.
+         * Each frame holds a vertex and the index of its next unexplored edge;
+         * finishing a frame propagates its low-link to the parent frame.
+         *
+         * @param root vertex to start the traversal from
+         */
+        private void dfs(int root) {
+            int depth = 0;
+            frameVertex[0] = root;
+            frameEdge[0] = 0;
+            discover(root);
+
+            while (depth >= 0) {
+                int u = frameVertex[depth];
+                int i = frameEdge[depth];
+
+                if (i < graph.outDegree(u)) {
+                    frameEdge[depth] = i + 1;
+                    int v = graph.target(u, i);
+                    metrics.incrementOperations();
+
+                    if (discovery[v] == -1) {
+                        discover(v);
+                        depth++;
+                        frameVertex[depth] = v;
+                        frameEdge[depth] = 0;
+                    } else if (inStack[v]) {
+                        lowLink[u] = Math.min(lowLink[u], discovery[v]);
+                    }
+                    continue;
+                }
+
+                // If u is the root of an SCC
+                if (lowLink[u] == discovery[u]) {
+                    List<Integer> scc = new ArrayList<>();
+                    int vertex;
+                    do {
+                        vertex = stack[--stackSize];
+                        inStack[vertex] = false;
+                        scc.add(vertex);
+                        metrics.incrementOperations();
+                    } while (vertex != u);
+
+                    Collections.sort(scc);
+                    components.add(scc);
+                }
+
+                depth--;
+                if (depth >= 0) {
+                    int parent = frameVertex[depth];
+                    lowLink[parent] = Math.min(lowLink[parent], lowLink[u]);
+                }
             }
         }
 
-        // If u is the root of an SCC
-        if (lowLink[u] == discovery[u]) {
-            List<Integer> scc = new ArrayList<>();
-            int vertex;
-            do {
-                vertex = stack.pop();
-                inStack[vertex] = false;
-                scc.add(vertex);
-                metrics.incrementOperations();
-            } while (vertex != u);
-
-            Collections.sort(scc);
-            components.add(scc);
+        /**
+         * Assigns discovery and low-link times and pushes the vertex on the component stack.
+         *
+         * @param u newly discovered vertex
+         */
+        private void discover(int u) {
+            discovery[u] = lowLink[u] = timer++;
+            stack[stackSize++] = u;
+            inStack[u] = true;
+            metrics.incrementOperations();
         }
     }
 
     /**
      * Builds a condensation DAG where each SCC is represented as a single node.
+     * Merged edges keep the weight of the first original edge.
      *
      * @param result SCC detection result*/
     public Graph createCondensedGraph(SCCResult result) {
+        return createCondensedGraph(result, CondensationBuilder.WeightPolicy.FIRST);
+    }
+
+    /**
+     * Builds a condensation DAG where each SCC is represented as a single node.
+     *
+     * @param result SCC detection result
+     * @param policy weight of an edge that merges several original edges*/
+    public Graph createCondensedGraph(SCCResult result, CondensationBuilder.WeightPolicy policy) {
         List<List<Integer>> sccList = result.getComponents();
         int totalSCCs = sccList.size();
 
@@ -117,24 +169,7 @@ public class SCC {
             }
         }
 
-        Graph condensed = new Graph(totalSCCs, true);
-        Set<String> edgeSet = new HashSet<>();
-
-        for (int u = 0; u < graph.getNumVertices(); u++) {
-            int sccU = vertexGroup[u];
-            for (Graph.Edge edge : graph.getEdgesFrom(u)) {
-                int sccV = vertexGroup[edge.getDestination()];
-                if (sccU != sccV) {
-                    String key = sccU + "->" + sccV;
-                    if (!edgeSet.contains(key)) {
-                        condensed.addEdge(sccU, sccV, edge.getWeight());
-                        edgeSet.add(key);
-                    }
-                }
-            }
-        }
-
-        return condensed;
+        return CondensationBuilder.build(graph, vertexGroup, totalSCCs, policy);
     }
 
     /**
@@ -0,0 +1,192 @@
+package com.benchmark;
+
+import com.model.Graph;
+
+import java.util.Random;
+
+/**
+ * Deterministic in-memory graph families used by the benchmark harnesses.
+ * All generators take an explicit seed so runs are reproducible.
+ */
+public final class BenchmarkGraphs {
+
+    private BenchmarkGraphs() {
+    }
+
+    /**
+     * Builds a layered DAG: vertices are split into layers of the given width and
+     * every vertex gets {@code fanOut} random edges into the next layer.
+     * Depth stays at V / width, which keeps recursive traversals safe.
+     *
+     * @param numVertices total number of vertices
+     * @param width vertices per layer
+     * @param fanOut outgoing edges per vertex (except the last layer)
+     * @param maxWeight edge weights are drawn from [1, maxWeight]
+     * @param seed random seed
+     * @return generated DAG
+     */
+    public static Graph layeredDag(int numVertices, int width, int fanOut, int maxWeight, long seed) {
+        Random random = new Random(seed);
+        Graph graph = new Graph(numVertices, true);
+        for (int u = 0; u < numVertices; u++) {
+            int layerEnd = (u / width + 1) * width;
+            int nextWidth = Math.min(width, numVertices - layerEnd);
+            if (nextWidth <= 0) {
+                continue;
+            }
+            for (int k = 0; k < fanOut; k++) {
+                int v = layerEnd + random.nextInt(nextWidth);
+                graph.addEdge(u, v, 1 + random.nextInt(maxWeight));
+            }
+        }
+        return graph;
+    }
+
+    /**
+     * Builds a simple chain 0 -> 1 -> ... -> n-1.
+     *
+     * @param numVertices total number of vertices
+     * @param maxWeight edge weights are drawn from [1, maxWeight]
+     * @param seed random seed
+     * @return generated chain
+     */
+    public static Graph chain(int numVertices, int maxWeight, long seed) {
+        Random random = new Random(seed);
+        Graph graph = new Graph(numVertices, true);
+        for (int u = 0; u + 1 < numVertices; u++) {
+            graph.addEdge(u, u + 1, 1 + random.nextInt(maxWeight));
+        }
+        return graph;
+    }
+
+    /**
+     * Builds a graph made of {@code numClusters} strongly connected clusters.
+     * Each cluster is a ring plus {@code extraIntraEdges} random chords; clusters are
+     * linked by {@code interEdges} random edges that only go from lower to higher
+     * cluster index, so the condensation is a DAG with exactly {@code numClusters} nodes.
+     *
+     * @param numClusters number of SCCs
+     * @param clusterSize vertices per SCC
+     * @param extraIntraEdges additional random edges inside each cluster
+     * @param interEdges total edges between clusters
+     * @param maxWeight edge weights are drawn from [1, maxWeight]
+     * @param seed random seed
+     * @return generated graph
+     */
+    public static Graph clusteredGraph(int numClusters, int clusterSize, int extraIntraEdges,
+                                       int interEdges, int maxWeight, long seed) {
+        Random random = new Random(seed);
+        Graph graph = new Graph(numClusters * clusterSize, true);
+        for (int c = 0; c < numClusters; c++) {
+            int base = c * clusterSize;
+            for (int i = 0; i < clusterSize && clusterSize > 1; i++) {
+                graph.addEdge(base + i, base + (i + 1) % clusterSize, 1 + random.nextInt(maxWeight));
+            }
+            for (int k = 0; k < extraIntraEdges; k++) {
+                graph.addEdge(base + random.nextInt(clusterSize), base + random.nextInt(clusterSize),
+                        1 + random.nextInt(maxWeight));
+            }
+        }
+        for (int k = 0; k < interEdges && numClusters > 1; k++) {
+            int from = random.nextInt(numClusters - 1);
+            int to = from + 1 + random.nextInt(numClusters - from - 1);
+            graph.addEdge(from * clusterSize + random.nextInt(clusterSize),
+                    to * clusterSize + random.nextInt(clusterSize), 1 + random.nextInt(maxWeight));
+        }
+        return graph;
+    }
+
+    /**
+     * Builds a random directed graph with {@code numEdges} uniformly chosen edges (cycles allowed).
+     *
+     * @param numVertices total number of vertices
+     * @param numEdges number of edges
+     * @param maxWeight edge weights are drawn from [1, maxWeight]
+     * @param seed random seed
+     * @return generated graph
+     */
+    public static Graph randomGraph(int numVertices, int numEdges, int maxWeight, long seed) {
+        Random random = new Random(seed);
+        Graph graph = new Graph(numVertices, true);
+        for (int k = 0; k < numEdges; k++) {
+            graph.addEdge(random.nextInt(numVertices), random.nextInt(numVertices), 1 + random.nextInt(maxWeight));
+        }
+        return graph;
+    }
+
+    /**
+     * Builds a random DAG: every edge goes from the lower to the higher vertex of a random pair.
+     *
+     * @param numVertices total number of vertices
+     * @param numEdges number of edges
+     * @param maxWeight edge weights are drawn from [1, maxWeight]
+     * @param seed random seed
+     * @return generated DAG
+     */
+    public static Graph randomDag(int numVertices, int numEdges, int maxWeight, long seed) {
+        Random random = new Random(seed);
+        Graph graph = new Graph(numVertices, true);
+        for (int k = 0; k < numEdges; k++) {
+            int a = random.nextInt(numVertices);
+            int b = random.nextInt(numVertices);
+            if (a == b) {
+                k--;
+                continue;
+            }
+            graph.addEdge(Math.min(a, b), Math.max(a, b), 1 + random.nextInt(maxWeight));
+        }
+        return graph;
+    }
+
+    /**
+     * Builds one of the named benchmark families with roughly {@code numEdges} edges.
+     * <ul>
+     *   <li>{@code chain}: a single path (worst case for recursion depth)</li>
+     *   <li>{@code random_sparse}: random graph with average out-degree 1.5</li>
+     *   <li>{@code dense_dag}: random DAG with about 25% of all forward pairs</li>
+     *   <li>{@code many_small_scc}: clusters of 8 vertices linked forward</li>
+     *   <li>{@code giant_scc}: one ring over all vertices plus random chords</li>
+     * </ul>
+     *
+     * @param family family name
+     * @param numEdges approximate number of edges
+     * @param seed random seed
+     * @return generated graph
+     */
+    public static Graph family(String family, int numEdges, long seed) {
+        switch (family) {
+            case "chain":
+                return chain(numEdges + 1, 10, seed);
+            case "random_sparse":
+                return randomGraph(Math.max(2, (int) (numEdges / 1.5)), numEdges, 10, seed);
+            case "dense_dag": {
+                int n = Math.max(2, (int) Math.sqrt(8.0 * numEdges));
+                return randomDag(n, numEdges, 10, seed);
+            }
+            case "many_small_scc": {
+                int clusters = Math.max(2, numEdges / 24);
+                return clusteredGraph(clusters, 8, 8, numEdges - clusters * 16, 10, seed);
+            }
+            case "giant_scc": {
+                int n = Math.max(2, numEdges / 4);
+                return clusteredGraph(1, n, numEdges - n, 0, 10, seed);
+            }
+            default:
+                throw new IllegalArgumentException("Unknown graph family: " + family);
+        }
+    }
+
+    /**
+     * Counts the stored edges of a graph.
+     *
+     * @param graph graph to inspect
+     * @return number of adjacency entries
+     */
+    public static long edgeCount(Graph graph) {
+        long edges = 0;
+        for (int u = 0; u < graph.getNumVertices(); u++) {
+            edges += graph.outDegree(u);
+        }
+        return edges;
+    }
+}
@@ -0,0 +1,90 @@
+package com.benchmark;
+
+import com.algorithms.CondensationBuilder;
+import com.algorithms.SCC;
+import com.model.Graph;
+import com.utils.Metrics;
+
+import java.util.*;
+
+/**
+ * Compares {@link CondensationBuilder} with the previous condensation code, which
+ * resolved components through a {@code HashMap<Integer,Integer>} and deduplicated
+ * edges with {@code compU + "->" + compV} keys in a {@code HashSet<String>}.
+ *
+ * Usage: {@code java com.benchmark.CondensationBenchmark [clusters] [clusterSize]}
+ */
+public class CondensationBenchmark {
+    private static final int WARMUP_RUNS = 5;
+    private static final int MEASURED_RUNS = 10;
+
+    public static void main(String[] args) {
+        int clusters = args.length > 0 ? Integer.parseInt(args[0]) : 5_000;
+        int clusterSize = args.length > 1 ? Integer.parseInt(args[1]) : 20;
+
+        // Dense inter-cluster edges so that many original edges collapse into each condensation edge
+        Graph graph = BenchmarkGraphs.clusteredGraph(clusters, clusterSize, clusterSize,
+                clusters * clusterSize * 4, 10, 42L);
+        List<List<Integer>> components = new SCC(graph).computeSCCs().getComponents();
+        int[] vertexToComponent = new int[graph.getNumVertices()];
+        for (int c = 0; c < components.size(); c++) {
+            for (int v : components.get(c)) {
+                vertexToComponent[v] = c;
+            }
+        }
+
+        System.out.println("========== CONDENSATION BUILD ==========");
+        System.out.printf(Locale.US, "Vertices: %d | Edges: %d | Components: %d%n",
+                graph.getNumVertices(), BenchmarkGraphs.edgeCount(graph), components.size());
+        System.out.printf(Locale.US, "%-24s %-14s%n", "Implementation", "Avg time (ms)");
+
+        double legacy = measure(() -> legacyCondensation(graph, components));
+        System.out.printf(Locale.US, "%-24s %-14.3f%n", "HashSet<String> (old)", legacy);
+        for (CondensationBuilder.WeightPolicy policy : CondensationBuilder.WeightPolicy.values()) {
+            double time = measure(() -> CondensationBuilder.build(graph, vertexToComponent, components.size(), policy));
+            System.out.printf(Locale.US, "%-24s %-14.3f (%.1fx)%n", "builder " + policy, time, legacy / time);
+        }
+    }
+
+    private static double measure(java.util.function.Supplier<Graph> run) {
+        for (int i = 0; i < WARMUP_RUNS; i++) {
+            run.get();
+        }
+        Metrics metrics = new Metrics();
+        metrics.startTiming();
+        for (int i = 0; i < MEASURED_RUNS; i++) {
+            run.get();
+        }
+        metrics.stopTiming();
+        return metrics.getElapsedMillis() / MEASURED_RUNS;
+    }
+
+    /**
+     * The condensation code as it was before {@link CondensationBuilder}, kept as a baseline.
+     */
+    private static Graph legacyCondensation(Graph graph, List<List<Integer>> components) {
+        Map<Integer, Integer> vertexToComponent = new HashMap<>();
+        for (int i = 0; i < components.size(); i++) {
+            for (int vertex : components.get(i)) {
+                vertexToComponent.put(vertex, i);
+            }
+        }
+
+        Graph cGraph = new Graph(components.size(), true);
+        Set<String> addedEdges = new HashSet<>();
+        for (int u = 0; u < graph.getNumVertices(); u++) {
+            int compU = vertexToComponent.get(u);
+            for (Graph.Edge edge : graph.getEdgesFrom(u)) {
+                int compV = vertexToComponent.get(edge.getDestination());
+                if (compU != compV) {
+                    String edgeKey = compU + "->" + compV;
+                    if (!addedEdges.contains(edgeKey)) {
+                        cGraph.addEdge(compU, compV, edge.getWeight());
+                        addedEdges.add(edgeKey);
+                    }
+                }
+            }
+        }
+        return cGraph;
+    }
+}
@@ -0,0 +1,49 @@
+package com.benchmark;
+
+import com.algorithms.DAG;
+import com.model.Graph;
+import com.utils.Metrics;
+
+import java.util.Locale;
+
+/**
+ * Scaling benchmark for {@link DAG#findCriticalPath()}.
+ * Runs the single-sweep critical path on layered DAGs of growing size and prints
+ * the time per edge, which should stay roughly constant if the method is linear.
+ *
+ * Usage: {@code java com.benchmark.CriticalPathBenchmark [maxVertices]}
+ */
+public class CriticalPathBenchmark {
+    private static final int WARMUP_RUNS = 5;
+    private static final int MEASURED_RUNS = 10;
+
+    public static void main(String[] args) {
+        int maxVertices = args.length > 0 ? Integer.parseInt(args[0]) : 1_000_000;
+
+        System.out.println("========== CRITICAL PATH SCALING ==========");
+        System.out.printf(Locale.US, "%-12s %-12s %-14s %-14s %-10s%n",
+                "Vertices", "Edges", "Avg time (ms)", "ns per edge", "Length");
+
+        for (int n = 1_000; n <= maxVertices; n *= 10) {
+            Graph graph = BenchmarkGraphs.layeredDag(n, Math.max(10, n / 1_000), 4, 10, 42L);
+            long edges = BenchmarkGraphs.edgeCount(graph);
+            DAG dag = new DAG(graph);
+
+            DAG.CriticalPathResult result = null;
+            for (int i = 0; i < WARMUP_RUNS; i++) {
+                result = dag.findCriticalPath();
+            }
+
+            Metrics metrics = new Metrics();
+            metrics.startTiming();
+            for (int i = 0; i < MEASURED_RUNS; i++) {
+                result = dag.findCriticalPath();
+            }
+            metrics.stopTiming();
+
+            double avgNanos = (double) metrics.getElapsedNanos() / MEASURED_RUNS;
+            System.out.printf(Locale.US, "%-12d %-12d %-14.3f %-14.2f %-10d%n",
+                    n, edges, avgNanos / 1_000_000.0, avgNanos / Math.max(edges, 1), result.getTotalLength());
+        }
+    }
+}
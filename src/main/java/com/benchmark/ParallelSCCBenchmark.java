@@ -0,0 +1,65 @@
+package com.benchmark;
+
+import com.algorithms.ParallelSCC;
+import com.algorithms.SCC;
+import com.model.CSRGraph;
+import com.model.Graph;
+import com.utils.Metrics;
+
+import java.util.Locale;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Thread-scaling benchmark for {@link ParallelSCC} against sequential {@link SCC}.
+ * Uses a clustered graph (many SCCs plus a few large ones) converted to CSR form.
+ *
+ * Usage: {@code java com.benchmark.ParallelSCCBenchmark [clusters] [clusterSize]}
+ */
+public class ParallelSCCBenchmark {
+    private static final int WARMUP_RUNS = 3;
+    private static final int MEASURED_RUNS = 5;
+
+    public static void main(String[] args) {
+        int clusters = args.length > 0 ? Integer.parseInt(args[0]) : 2_000;
+        int clusterSize = args.length > 1 ? Integer.parseInt(args[1]) : 500;
+
+        Graph source = BenchmarkGraphs.clusteredGraph(clusters, clusterSize, clusterSize * 2,
+                clusters * 4, 10, 42L);
+        CSRGraph graph = CSRGraph.fromGraph(source);
+        source = null;
+
+        System.out.println("========== PARALLEL SCC SCALING ==========");
+        System.out.printf(Locale.US, "Vertices: %d | Edges: %d%n", graph.getNumVertices(), graph.getNumEdges());
+        System.out.printf(Locale.US, "%-12s %-14s %-10s %-8s%n", "Threads", "Avg time (ms)", "Speedup", "SCCs");
+
+        double baseline = measure(() -> new SCC(graph).computeSCCs());
+        System.out.printf(Locale.US, "%-12s %-14.3f %-10s %-8d%n", "tarjan", baseline, "1.00",
+                new SCC(graph).computeSCCs().getComponents().size());
+
+        int maxThreads = Runtime.getRuntime().availableProcessors();
+        for (int threads = 1; threads <= maxThreads; threads *= 2) {
+            ForkJoinPool pool = new ForkJoinPool(threads);
+            try {
+                ParallelSCC solver = new ParallelSCC(graph, pool);
+                double avg = measure(solver::computeSCCs);
+                System.out.printf(Locale.US, "%-12d %-14.3f %-10.2f %-8d%n", threads, avg, baseline / avg,
+                        solver.computeSCCs().getComponents().size());
+            } finally {
+                pool.shutdown();
+            }
+        }
+    }
+
+    private static double measure(java.util.function.Supplier<SCC.SCCResult> run) {
+        for (int i = 0; i < WARMUP_RUNS; i++) {
+            run.get();
+        }
+        Metrics metrics = new Metrics();
+        metrics.startTiming();
+        for (int i = 0; i < MEASURED_RUNS; i++) {
+            run.get();
+        }
+        metrics.stopTiming();
+        return metrics.getElapsedMillis() / MEASURED_RUNS;
+    }
+}
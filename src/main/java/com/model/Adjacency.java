@@ -0,0 +1,56 @@
+package com.model;
+
+/**
+ * Read-only view of a weighted directed adjacency structure.
+ * Implemented by both the list-based {@link Graph} and the array-based {@link CSRGraph},
+ * so algorithms can iterate neighbours with plain int indices:
+ *
+ * <pre>
+ * for (int i = 0, d = adj.outDegree(u); i &lt; d; i++) {
+ *     int v = adj.target(u, i);
+ *     int w = adj.weight(u, i);
+ * }
+ * </pre>
+ */
+public interface Adjacency {
+
+    /**
+     * Returns the total number of vertices.
+     *
+     * @return vertex count
+     */
+    int getNumVertices();
+
+    /**
+     * Checks whether the structure is directed.
+     *
+     * @return true if directed, false otherwise
+     */
+    boolean isDirected();
+
+    /**
+     * Returns the number of outgoing edges of a vertex.
+     *
+     * @param vertex source vertex
+     * @return out-degree
+     */
+    int outDegree(int vertex);
+
+    /**
+     * Returns the destination of the i-th outgoing edge of a vertex.
+     *
+     * @param vertex source vertex
+     * @param index edge index in [0, outDegree(vertex))
+     * @return destination vertex
+     */
+    int target(int vertex, int index);
+
+    /**
+     * Returns the weight of the i-th outgoing edge of a vertex.
+     *
+     * @param vertex source vertex
+     * @param index edge index in [0, outDegree(vertex))
+     * @return edge weight
+     */
+    int weight(int vertex, int index);
+}
@@ -0,0 +1,279 @@
+package com.model;
+
+import java.util.Arrays;
+
+/**
+ * Immutable weighted graph stored in compressed-sparse-row form.
+ * The outgoing edges of vertex v occupy the index range [offsets[v], offsets[v + 1])
+ * of the {@code targets} and {@code weights} arrays, so no per-edge objects are allocated.
+ * Space Complexity: O(V + E)
+ */
+public final class CSRGraph implements Adjacency {
+    private final int numVertices;
+    private final boolean isDirected;
+    private final String weightType;
+    private final int[] offsets;
+    private final int[] targets;
+    private final int[] weights;
+
+    private CSRGraph(int numVertices, boolean isDirected, String weightType,
+                     int[] offsets, int[] targets, int[] weights) {
+        this.numVertices = numVertices;
+        this.isDirected = isDirected;
+        this.weightType = weightType;
+        this.offsets = offsets;
+        this.targets = targets;
+        this.weights = weights;
+    }
+
+    /**
+     * Converts a list-based graph into CSR form, keeping the per-vertex edge order.
+     *
+     * @param graph source graph
+     * @return equivalent CSR graph
+     * @complexity O(V + E)
+     */
+    public static CSRGraph fromGraph(Graph graph) {
+        int n = graph.getNumVertices();
+        int[] offsets = new int[n + 1];
+        for (int u = 0; u < n; u++) {
+            offsets[u + 1] = offsets[u] + graph.getEdgesFrom(u).size();
+        }
+
+        int[] targets = new int[offsets[n]];
+        int[] weights = new int[offsets[n]];
+        for (int u = 0; u < n; u++) {
+            int pos = offsets[u];
+            for (Graph.Edge edge : graph.getEdgesFrom(u)) {
+                targets[pos] = edge.getDestination();
+                weights[pos] = edge.getWeight();
+                pos++;
+            }
+        }
+
+        return new CSRGraph(n, graph.isDirected(), graph.getWeightType(), offsets, targets, weights);
+    }
+
+    /**
+     * Builds a CSR graph from parallel edge arrays, e.g. buffers filled by a streaming loader.
+     * Only the first {@code count} entries are used; for undirected graphs every edge is mirrored.
+     *
+     * @param numVertices total number of vertices
+     * @param isDirected whether the graph is directed
+     * @param weightType description of the weight model
+     * @param from edge sources
+     * @param to edge destinations
+     * @param weight edge weights
+     * @param count number of edges in the arrays
+     * @return CSR graph
+     * @complexity O(V + E)
+     */
+    public static CSRGraph fromEdges(int numVertices, boolean isDirected, String weightType,
+                                     int[] from, int[] to, int[] weight, int count) {
+        for (int i = 0; i < count; i++) {
+            if (from[i] < 0 || from[i] >= numVertices || to[i] < 0 || to[i] >= numVertices) {
+                throw new IndexOutOfBoundsException("Edge " + from[i] + "->" + to[i]
+                        + " out of range for " + numVertices + " vertices");
+            }
+        }
+        if (isDirected) {
+            return bucketBySource(numVertices, true, weightType, from, to, weight, count);
+        }
+
+        int[] sources = new int[2 * count];
+        int[] dests = new int[2 * count];
+        int[] weights = new int[2 * count];
+        for (int i = 0; i < count; i++) {
+            sources[2 * i] = from[i];
+            dests[2 * i] = to[i];
+            sources[2 * i + 1] = to[i];
+            dests[2 * i + 1] = from[i];
+            weights[2 * i] = weights[2 * i + 1] = weight[i];
+        }
+        return bucketBySource(numVertices, false, weightType, sources, dests, weights, 2 * count);
+    }
+
+    /**
+     * Counting sort of edges by source vertex; stable, so per-vertex insertion order is kept.
+     */
+    private static CSRGraph bucketBySource(int numVertices, boolean isDirected, String weightType,
+                                           int[] sources, int[] dests, int[] edgeWeights, int size) {
+        int[] offsets = new int[numVertices + 1];
+        for (int i = 0; i < size; i++) {
+            offsets[sources[i] + 1]++;
+        }
+        for (int v = 0; v < numVertices; v++) {
+            offsets[v + 1] += offsets[v];
+        }
+
+        int[] cursor = Arrays.copyOf(offsets, numVertices);
+        int[] targets = new int[size];
+        int[] weights = new int[size];
+        for (int i = 0; i < size; i++) {
+            int pos = cursor[sources[i]]++;
+            targets[pos] = dests[i];
+            weights[pos] = edgeWeights[i];
+        }
+
+        return new CSRGraph(numVertices, isDirected, weightType, offsets, targets, weights);
+    }
+
+    /**
+     * Converts this graph back into the list-based representation.
+     *
+     * @return equivalent {@link Graph}
+     * @complexity O(V + E)
+     */
+    public Graph toGraph() {
+        Graph graph = new Graph(numVertices, isDirected);
+        graph.setWeightType(weightType);
+        for (int u = 0; u < numVertices; u++) {
+            for (int e = offsets[u]; e < offsets[u + 1]; e++) {
+                // Stored edges are already mirrored for undirected graphs
+                graph.appendEdge(u, targets[e], weights[e]);
+            }
+        }
+        return graph;
+    }
+
+    @Override
+    public int getNumVertices() {
+        return numVertices;
+    }
+
+    /**
+     * Returns the number of stored (directed) edges.
+     *
+     * @return edge count
+     */
+    public int getNumEdges() {
+        return targets.length;
+    }
+
+    @Override
+    public boolean isDirected() {
+        return isDirected;
+    }
+
+    /**
+     * Returns the weight model of this graph.
+     *
+     * @return weight type string
+     */
+    public String getWeightType() {
+        return weightType;
+    }
+
+    @Override
+    public int outDegree(int vertex) {
+        return offsets[vertex + 1] - offsets[vertex];
+    }
+
+    @Override
+    public int target(int vertex, int index) {
+        return targets[offsets[vertex] + index];
+    }
+
+    @Override
+    public int weight(int vertex, int index) {
+        return weights[offsets[vertex] + index];
+    }
+
+    /**
+     * Builds a {@link CSRGraph} from an edge stream.
+     * Edges are buffered in primitive arrays and bucketed by source on {@link #build()},
+     * so edges of the same source keep their insertion order.
+     */
+    public static class Builder {
+        private final int numVertices;
+        private final boolean isDirected;
+        private String weightType = "edge";
+        private int[] sources;
+        private int[] dests;
+        private int[] edgeWeights;
+        private int size;
+
+        /**
+         * Creates a builder for a graph with the given number of vertices.
+         *
+         * @param numVertices total number of vertices
+         * @param isDirected whether the graph is directed
+         */
+        public Builder(int numVertices, boolean isDirected) {
+            this(numVertices, isDirected, 16);
+        }
+
+        /**
+         * Creates a builder with a pre-sized edge buffer.
+         *
+         * @param numVertices total number of vertices
+         * @param isDirected whether the graph is directed
+         * @param expectedEdges expected number of stored edges
+         */
+        public Builder(int numVertices, boolean isDirected, int expectedEdges) {
+            if (numVertices < 0) {
+                throw new IllegalArgumentException("Vertex count must be non-negative: " + numVertices);
+            }
+            this.numVertices = numVertices;
+            this.isDirected = isDirected;
+            int capacity = Math.max(expectedEdges, 1);
+            this.sources = new int[capacity];
+            this.dests = new int[capacity];
+            this.edgeWeights = new int[capacity];
+        }
+
+        /**
+         * Sets the weight model.
+         *
+         * @param weightType description of the weight model
+         * @return this builder
+         */
+        public Builder weightType(String weightType) {
+            this.weightType = weightType;
+            return this;
+        }
+
+        /**
+         * Adds an edge. For undirected graphs the reverse edge is added as well.
+         *
+         * @param from source vertex
+         * @param to destination vertex
+         * @param weight edge weight
+         * @return this builder
+         */
+        public Builder addEdge(int from, int to, int weight) {
+            if (from < 0 || from >= numVertices || to < 0 || to >= numVertices) {
+                throw new IndexOutOfBoundsException("Edge " + from + "->" + to
+                        + " out of range for " + numVertices + " vertices");
+            }
+            append(from, to, weight);
+            if (!isDirected) {
+                append(to, from, weight);
+            }
+            return this;
+        }
+
+        private void append(int from, int to, int weight) {
+            if (size == sources.length) {
+                int capacity = sources.length + (sources.length >> 1) + 1;
+                sources = Arrays.copyOf(sources, capacity);
+                dests = Arrays.copyOf(dests, capacity);
+                edgeWeights = Arrays.copyOf(edgeWeights, capacity);
+            }
+            sources[size] = from;
+            dests[size] = to;
+            edgeWeights[size] = weight;
+            size++;
+        }
+
+        /**
+         * Builds the immutable graph using a counting sort on the source vertex.
+         *
+         * @return CSR graph
+         * @complexity O(V + E)
+         */
+        public CSRGraph build() {
+            return bucketBySource(numVertices, isDirected, weightType, sources, dests, edgeWeights, size);
+        }
+    }
+}
@@ -7,7 +7,7 @@ import java.util.*;
  * Space Complexity: O(V)
  * Edge addition: O(1)
  */
-public class Graph {
+public class Graph implements Adjacency {
     private final int numVertices;
     private final List<List<Edge>> connections;
     private final boolean isDirected;
@@ -37,11 +37,20 @@ public class Graph {
         }
     }
 
+    /**
+     * Appends a single stored edge without mirroring it, used when copying
+     * an already-expanded edge list (e.g. from {@link CSRGraph}).
+     */
+    void appendEdge(int from, int to, int weight) {
+        connections.get(from).add(new Edge(to, weight));
+    }
+
     /**
      * Returns the total number of vertices.
      *
      * @return vertex count
      */
+    @Override
     public int getNumVertices() {
         return numVertices;
     }
@@ -61,10 +70,26 @@ public class Graph {
      *
      * @return true if directed, false otherwise
      */
+    @Override
     public boolean isDirected() {
         return isDirected;
     }
 
+    @Override
+    public int outDegree(int vertex) {
+        return connections.get(vertex).size();
+    }
+
+    @Override
+    public int target(int vertex, int index) {
+        return connections.get(vertex).get(index).getDestination();
+    }
+
+    @Override
+    public int weight(int vertex, int index) {
+        return connections.get(vertex).get(index).getWeight();
+    }
+
     /**
      * Returns the current weight type of this graph.
      *
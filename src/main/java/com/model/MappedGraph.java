@@ -0,0 +1,81 @@
+package com.model;
+
+import java.nio.IntBuffer;
+
+/**
+ * Read-only CSR graph backed by memory-mapped buffers of a binary snapshot
+ * (see {@link com.utils.GraphSnapshot}). Adjacency is served straight from the
+ * mapped pages; nothing is copied onto the heap.
+ * Absolute {@link IntBuffer#get(int)} reads are used, so one instance can be shared by threads.
+ */
+public final class MappedGraph implements Adjacency {
+    private final int numVertices;
+    private final boolean isDirected;
+    private final String weightType;
+    private final IntBuffer offsets;
+    private final IntBuffer targets;
+    private final IntBuffer weights;
+
+    /**
+     * Wraps mapped CSR sections.
+     *
+     * @param numVertices total number of vertices
+     * @param isDirected whether the graph is directed
+     * @param weightType description of the weight model
+     * @param offsets numVertices + 1 edge offsets
+     * @param targets edge destinations
+     * @param weights edge weights
+     */
+    public MappedGraph(int numVertices, boolean isDirected, String weightType,
+                       IntBuffer offsets, IntBuffer targets, IntBuffer weights) {
+        this.numVertices = numVertices;
+        this.isDirected = isDirected;
+        this.weightType = weightType;
+        this.offsets = offsets;
+        this.targets = targets;
+        this.weights = weights;
+    }
+
+    @Override
+    public int getNumVertices() {
+        return numVertices;
+    }
+
+    /**
+     * Returns the number of stored (directed) edges.
+     *
+     * @return edge count
+     */
+    public int getNumEdges() {
+        return targets.limit();
+    }
+
+    @Override
+    public boolean isDirected() {
+        return isDirected;
+    }
+
+    /**
+     * Returns the weight model of this graph.
+     *
+     * @return weight type string
+     */
+    public String getWeightType() {
+        return weightType;
+    }
+
+    @Override
+    public int outDegree(int vertex) {
+        return offsets.get(vertex + 1) - offsets.get(vertex);
+    }
+
+    @Override
+    public int target(int vertex, int index) {
+        return targets.get(offsets.get(vertex) + index);
+    }
+
+    @Override
+    public int weight(int vertex, int index) {
+        return weights.get(offsets.get(vertex) + index);
+    }
+}
@@ -0,0 +1,293 @@
+package com.utils;
+
+import com.model.Adjacency;
+import com.model.CSRGraph;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * Local on-disk cache of {@link CachedAnalysis} results, keyed by a SHA-256 hash
+ * of the graph content (vertex count, direction, weight model, every edge), the source vertex,
+ * the pipeline that produced the analysis and the entry format version.
+ * Any change to the input yields a different key, so stale entries are never served;
+ * they simply age out.
+ *
+ * Entries are single files named {@code <key>.analysis}. Reads refresh the file's
+ * modification time, and writes evict the least recently used entries until the
+ * directory fits in {@code maxBytes}.
+ */
+public class AnalysisCache {
+    private static final int MAGIC = 0x44414743;
+    private static final int VERSION = 1;
+    private static final String SUFFIX = ".analysis";
+
+    private final Path directory;
+    private final long maxBytes;
+
+    /**
+     * Opens (and creates if needed) a cache directory.
+     *
+     * @param directory cache directory
+     * @param maxBytes total size bound for all entries
+     */
+    public AnalysisCache(Path directory, long maxBytes) throws IOException {
+        if (maxBytes <= 0) {
+            throw new IllegalArgumentException("Cache size must be positive: " + maxBytes);
+        }
+        this.directory = directory;
+        this.maxBytes = maxBytes;
+        Files.createDirectories(directory);
+    }
+
+    /**
+     * Computes the content key of a graph, source vertex and pipeline.
+     *
+     * @param graph input graph
+     * @param weightType weight model of the input
+     * @param sourceVertex source vertex used for path analysis
+     * @param pipeline name of the pipeline variant, since variants may number components differently
+     * @return hex-encoded SHA-256 digest
+     * @complexity O(V + E)
+     */
+    public static String contentHash(Adjacency graph, String weightType, int sourceVertex, String pipeline) {
+        MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+
+        ByteBuffer chunk = ByteBuffer.allocate(1 << 14);
+        int n = graph.getNumVertices();
+        byte[] typeBytes = weightType.getBytes(StandardCharsets.UTF_8);
+        byte[] pipelineBytes = pipeline.getBytes(StandardCharsets.UTF_8);
+        chunk.putInt(VERSION).putInt(pipelineBytes.length).put(pipelineBytes);
+        chunk.putInt(n).putInt(graph.isDirected() ? 1 : 0).putInt(sourceVertex).putInt(typeBytes.length);
+        flushDigest(digest, chunk);
+        digest.update(typeBytes);
+        for (int u = 0; u < n; u++) {
+            int degree = graph.outDegree(u);
+            if (chunk.remaining() < 4) flushDigest(digest, chunk);
+            chunk.putInt(degree);
+            for (int i = 0; i < degree; i++) {
+                if (chunk.remaining() < 8) flushDigest(digest, chunk);
+                chunk.putInt(graph.target(u, i)).putInt(graph.weight(u, i));
+            }
+        }
+        flushDigest(digest, chunk);
+        return HexFormat.of().formatHex(digest.digest());
+    }
+
+    private static void flushDigest(MessageDigest digest, ByteBuffer chunk) {
+        chunk.flip();
+        digest.update(chunk);
+        chunk.clear();
+    }
+
+    /**
+     * Looks up an entry. Unreadable or foreign files are treated as misses and removed.
+     *
+     * @param key content key from {@link #contentHash}
+     * @return cached analysis, or null on a miss
+     */
+    public CachedAnalysis get(String key) throws IOException {
+        Path file = entryPath(key);
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(file)))) {
+            CachedAnalysis analysis = read(in);
+            Files.setLastModifiedTime(file, FileTime.fromMillis(System.currentTimeMillis()));
+            return analysis;
+        } catch (NoSuchFileException e) {
+            return null;
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(file);
+            return null;
+        }
+    }
+
+    /**
+     * Stores an entry atomically, then evicts least recently used entries over the size bound.
+     *
+     * @param key content key from {@link #contentHash}
+     * @param analysis analysis to store
+     */
+    public void put(String key, CachedAnalysis analysis) throws IOException {
+        Path temp = Files.createTempFile(directory, key, ".tmp");
+        try {
+            try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temp)))) {
+                write(out, analysis);
+            }
+            Files.move(temp, entryPath(key), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+        evict();
+    }
+
+    /**
+     * Removes an entry if present.
+     *
+     * @param key content key
+     */
+    public void invalidate(String key) throws IOException {
+        Files.deleteIfExists(entryPath(key));
+    }
+
+    /**
+     * Returns the total size of all entries.
+     *
+     * @return bytes used
+     */
+    public long sizeInBytes() throws IOException {
+        long total = 0;
+        for (Path file : entries()) {
+            total += Files.size(file);
+        }
+        return total;
+    }
+
+    private Path entryPath(String key) {
+        return directory.resolve(key + SUFFIX);
+    }
+
+    private List<Path> entries() throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return new ArrayList<>(files.filter(p -> p.getFileName().toString().endsWith(SUFFIX)).toList());
+        }
+    }
+
+    private void evict() throws IOException {
+        List<Path> files = entries();
+        long total = 0;
+        for (Path file : files) {
+            total += Files.size(file);
+        }
+        if (total <= maxBytes) {
+            return;
+        }
+
+        files.sort(Comparator.comparing(AnalysisCache::lastModified));
+        for (Path file : files) {
+            if (total <= maxBytes) break;
+            long size = Files.size(file);
+            if (Files.deleteIfExists(file)) {
+                total -= size;
+            }
+        }
+    }
+
+    private static FileTime lastModified(Path file) {
+        try {
+            return Files.getLastModifiedTime(file);
+        } catch (IOException e) {
+            return FileTime.fromMillis(0);
+        }
+    }
+
+    // ====== Serialization ======
+
+    private static void write(DataOutputStream out, CachedAnalysis a) throws IOException {
+        out.writeInt(MAGIC);
+        out.writeInt(VERSION);
+
+        out.writeInt(a.components.length);
+        for (int[] component : a.components) {
+            writeArray(out, component);
+        }
+
+        CSRGraph c = a.condensation;
+        out.writeInt(c.getNumVertices());
+        for (int u = 0; u < c.getNumVertices(); u++) {
+            int degree = c.outDegree(u);
+            out.writeInt(degree);
+            for (int i = 0; i < degree; i++) {
+                out.writeInt(c.target(u, i));
+                out.writeInt(c.weight(u, i));
+            }
+        }
+
+        out.writeBoolean(a.isDAG);
+        writeArray(out, a.componentOrder);
+        out.writeInt(a.condensedSource);
+        writeArray(out, a.shortestDistances);
+        writeArray(out, a.shortestParents);
+        writeArray(out, a.longestDistances);
+        writeArray(out, a.longestParents);
+        writeArray(out, a.criticalPath);
+        out.writeInt(a.criticalLength);
+        out.writeInt(a.criticalStart);
+        out.writeInt(a.criticalEnd);
+    }
+
+    private static CachedAnalysis read(DataInputStream in) throws IOException {
+        if (in.readInt() != MAGIC || in.readInt() != VERSION) {
+            throw new IOException("Unknown cache entry format");
+        }
+
+        int[][] components = new int[in.readInt()][];
+        for (int i = 0; i < components.length; i++) {
+            components[i] = readArray(in);
+        }
+
+        int numComponents = in.readInt();
+        CSRGraph.Builder builder = new CSRGraph.Builder(numComponents, true);
+        for (int u = 0; u < numComponents; u++) {
+            int degree = in.readInt();
+            for (int i = 0; i < degree; i++) {
+                builder.addEdge(u, in.readInt(), in.readInt());
+            }
+        }
+
+        boolean isDAG = in.readBoolean();
+        int[] componentOrder = readArray(in);
+        int condensedSource = in.readInt();
+        int[] shortestDistances = readArray(in);
+        int[] shortestParents = readArray(in);
+        int[] longestDistances = readArray(in);
+        int[] longestParents = readArray(in);
+        int[] criticalPath = readArray(in);
+        int criticalLength = in.readInt();
+        int criticalStart = in.readInt();
+        int criticalEnd = in.readInt();
+
+        return new CachedAnalysis(components, builder.build(), isDAG, componentOrder, condensedSource,
+                shortestDistances, shortestParents, longestDistances, longestParents,
+                criticalPath, criticalLength, criticalStart, criticalEnd);
+    }
+
+    private static void writeArray(DataOutputStream out, int[] values) throws IOException {
+        out.writeInt(values.length);
+        for (int value : values) {
+            out.writeInt(value);
+        }
+    }
+
+    private static int[] readArray(DataInputStream in) throws IOException {
+        int length = in.readInt();
+        if (length < 0) {
+            throw new IOException("Negative array length in cache entry");
+        }
+        int[] values = new int[length];
+        for (int i = 0; i < length; i++) {
+            values[i] = in.readInt();
+        }
+        return values;
+    }
+}
@@ -0,0 +1,43 @@
+package com.utils;
+
+import com.model.CSRGraph;
+
+/**
+ * Everything {@link com.Main} derives from one input graph, in primitive form,
+ * so it can be stored in and served from an {@link AnalysisCache}.
+ * Path arrays are empty when the condensation is not a DAG.
+ */
+public class CachedAnalysis {
+    public final int[][] components;
+    public final CSRGraph condensation;
+    public final boolean isDAG;
+    public final int[] componentOrder;
+    public final int condensedSource;
+    public final int[] shortestDistances;
+    public final int[] shortestParents;
+    public final int[] longestDistances;
+    public final int[] longestParents;
+    public final int[] criticalPath;
+    public final int criticalLength;
+    public final int criticalStart;
+    public final int criticalEnd;
+
+    public CachedAnalysis(int[][] components, CSRGraph condensation, boolean isDAG, int[] componentOrder,
+                          int condensedSource, int[] shortestDistances, int[] shortestParents,
+                          int[] longestDistances, int[] longestParents, int[] criticalPath,
+                          int criticalLength, int criticalStart, int criticalEnd) {
+        this.components = components;
+        this.condensation = condensation;
+        this.isDAG = isDAG;
+        this.componentOrder = componentOrder;
+        this.condensedSource = condensedSource;
+        this.shortestDistances = shortestDistances;
+        this.shortestParents = shortestParents;
+        this.longestDistances = longestDistances;
+        this.longestParents = longestParents;
+        this.criticalPath = criticalPath;
+        this.criticalLength = criticalLength;
+        this.criticalStart = criticalStart;
+        this.criticalEnd = criticalEnd;
+    }
+}
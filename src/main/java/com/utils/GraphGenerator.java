@@ -0,0 +1,550 @@
+package com.utils;
+
+import com.model.Adjacency;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.Locale;
+
+/**
+ * Streaming generator of synthetic dependency graphs for load and scale testing.
+ *
+ * The generated graph has a controlled structure:
+ * <ul>
+ *   <li>vertices are split into SCCs whose sizes follow a {@link SizeDistribution};
+ *       every SCC of size &gt; 1 is a ring, so it is strongly connected;</li>
+ *   <li>SCCs are spread over {@code depth} levels; the first vertex of every SCC
+ *       links to the next level, so the condensation has exactly {@code depth} levels;</li>
+ *   <li>the remaining edge budget is spread evenly over the vertices, each extra edge
+ *       going inside its SCC (probability {@code intraFraction}) or to a deeper level.</li>
+ * </ul>
+ * Edges never point to a shallower level, so the SCC structure is exactly the one sampled.
+ *
+ * Edges are produced vertex by vertex from a per-vertex seed, so they can be regenerated
+ * on demand. Output is streamed: memory is O(number of SCCs) for JSON and O(V) for the
+ * binary snapshot (out-degrees are needed before the targets), never O(E).
+ *
+ * Usage: {@code java com.utils.GraphGenerator --vertices 1000000 --edges 100000000
+ * --scc-min 1 --scc-max 50 --scc-dist power_law --depth 200 --weights 1 10 --seed 7 --out big.json}
+ * (use a {@code .bin} extension for a {@link GraphSnapshot}).
+ */
+public class GraphGenerator {
+
+    /**
+     * How SCC sizes are sampled between the configured minimum and maximum.
+     */
+    public enum SizeDistribution {
+        /** Every SCC has the minimum size. */
+        FIXED,
+        /** Uniform between minimum and maximum. */
+        UNIFORM,
+        /** Heavy-tailed (Pareto, exponent 2.5) starting at the minimum, capped at the maximum. */
+        POWER_LAW
+    }
+
+    private final int numVertices;
+    private final long numEdges;
+    private final int minSccSize;
+    private final int maxSccSize;
+    private final SizeDistribution sizeDistribution;
+    private final int requestedDepth;
+    private final double intraFraction;
+    private final int minWeight;
+    private final int maxWeight;
+    private final long seed;
+    private final boolean shuffle;
+
+    // Derived layout, O(number of SCCs)
+    private int[] sccStart;
+    private int numSccs;
+    private int depth;
+    private long extraEdges;
+    private long shuffleMultiplier;
+    private long shuffleInverse;
+    private long shuffleOffset;
+
+    private GraphGenerator(Builder b) {
+        this.numVertices = b.numVertices;
+        this.numEdges = b.numEdges;
+        this.minSccSize = b.minSccSize;
+        this.maxSccSize = b.maxSccSize;
+        this.sizeDistribution = b.sizeDistribution;
+        this.requestedDepth = b.depth;
+        this.intraFraction = b.intraFraction;
+        this.minWeight = b.minWeight;
+        this.maxWeight = b.maxWeight;
+        this.seed = b.seed;
+        this.shuffle = b.shuffle;
+        layout();
+    }
+
+    /**
+     * Samples SCC sizes, assigns levels and computes the extra edge budget.
+     */
+    private void layout() {
+        SplitMix random = new SplitMix(seed);
+        int[] starts = new int[16];
+        int count = 0;
+        int position = 0;
+        while (position < numVertices) {
+            if (count + 1 >= starts.length) {
+                starts = Arrays.copyOf(starts, starts.length * 2);
+            }
+            starts[count++] = position;
+            position += Math.min(sampleSize(random), numVertices - position);
+        }
+        starts = Arrays.copyOf(starts, count + 1);
+        starts[count] = numVertices;
+        this.sccStart = starts;
+        this.numSccs = count;
+        this.depth = Math.max(1, Math.min(requestedDepth, Math.max(count, 1)));
+
+        long mandatory = 0;
+        for (int s = 0; s < numSccs; s++) {
+            int size = sccStart[s + 1] - sccStart[s];
+            if (size > 1) mandatory += size;
+            if (levelOf(s) < depth - 1) mandatory++;
+        }
+        this.extraEdges = Math.max(0, numEdges - mandatory);
+
+        if (shuffle && numVertices > 1) {
+            long multiplier = (random.nextLong() >>> 1) % numVertices;
+            while (multiplier < 1 || gcd(multiplier, numVertices) != 1) {
+                multiplier = (multiplier + 1) % numVertices;
+            }
+            shuffleMultiplier = multiplier;
+            shuffleInverse = modInverse(multiplier, numVertices);
+            shuffleOffset = (random.nextLong() >>> 1) % numVertices;
+        } else {
+            shuffleMultiplier = 1;
+            shuffleInverse = 1;
+            shuffleOffset = 0;
+        }
+    }
+
+    private int sampleSize(SplitMix random) {
+        switch (sizeDistribution) {
+            case UNIFORM:
+                return minSccSize + random.nextInt(maxSccSize - minSccSize + 1);
+            case POWER_LAW: {
+                double u = random.nextDouble();
+                double size = minSccSize * Math.pow(1.0 - u, -1.0 / 1.5);
+                return (int) Math.min(maxSccSize, Math.max(minSccSize, size));
+            }
+            default:
+                return minSccSize;
+        }
+    }
+
+    // ====== Layout queries ======
+
+    /**
+     * Returns the number of vertices.
+     *
+     * @return vertex count
+     */
+    public int getNumVertices() {
+        return numVertices;
+    }
+
+    /**
+     * Returns the number of sampled SCCs.
+     *
+     * @return SCC count
+     */
+    public int getNumSccs() {
+        return numSccs;
+    }
+
+    /**
+     * Returns the number of levels of the condensation (requested depth capped at the SCC count).
+     *
+     * @return condensation depth
+     */
+    public int getDepth() {
+        return depth;
+    }
+
+    /**
+     * Returns the source vertex written to the output (a vertex of the first SCC, on level 0).
+     *
+     * @return source vertex id
+     */
+    public int getSourceVertex() {
+        return toExternal(0);
+    }
+
+    private int levelOf(int scc) {
+        return (int) ((long) scc * depth / numSccs);
+    }
+
+    private int levelStart(int level) {
+        return (int) (((long) level * numSccs + depth - 1) / depth);
+    }
+
+    private int sccOf(int vertex) {
+        int index = Arrays.binarySearch(sccStart, 0, numSccs, vertex);
+        return index >= 0 ? index : -index - 2;
+    }
+
+    private int toExternal(int internal) {
+        return (int) ((internal * shuffleMultiplier + shuffleOffset) % numVertices);
+    }
+
+    private int toInternal(int external) {
+        long shifted = (external - shuffleOffset) % numVertices;
+        if (shifted < 0) shifted += numVertices;
+        return (int) ((shifted * shuffleInverse) % numVertices);
+    }
+
+    // ====== Edge generation ======
+
+    /**
+     * Receives the edges of one vertex, in external vertex ids.
+     */
+    private interface EdgeSink {
+        void edge(int to, int weight) throws IOException;
+    }
+
+    /**
+     * Emits all outgoing edges of one (external) vertex. Deterministic per vertex.
+     */
+    private void generate(int external, SplitMix random, EdgeSink sink) throws IOException {
+        int u = toInternal(external);
+        int scc = sccOf(u);
+        int start = sccStart[scc];
+        int size = sccStart[scc + 1] - start;
+        int level = levelOf(scc);
+        boolean lastLevel = level == depth - 1;
+        int deeperStart = lastLevel ? numVertices : sccStart[levelStart(level + 1)];
+        int nextLevelEnd = lastLevel ? numVertices : sccStart[levelStart(Math.min(level + 2, depth))];
+
+        random.reset(seed ^ (0x9E3779B97F4A7C15L * (u + 1L)));
+
+        if (size > 1) {
+            sink.edge(toExternal(start + (u - start + 1) % size), nextWeight(random));
+        }
+        if (u == start && !lastLevel) {
+            sink.edge(toExternal(deeperStart + random.nextInt(nextLevelEnd - deeperStart)), nextWeight(random));
+        }
+
+        long extra = extraEdges / numVertices + (u < extraEdges % numVertices ? 1 : 0);
+        for (long j = 0; j < extra; j++) {
+            boolean intra = size > 1 && (lastLevel || random.nextDouble() < intraFraction);
+            if (intra) {
+                int offset = 1 + random.nextInt(size - 1);
+                sink.edge(toExternal(start + (u - start + offset) % size), nextWeight(random));
+            } else if (!lastLevel) {
+                sink.edge(toExternal(deeperStart + random.nextInt(numVertices - deeperStart)), nextWeight(random));
+            }
+            // A singleton SCC on the last level has nowhere to point; its extra edges are dropped.
+        }
+    }
+
+    private int nextWeight(SplitMix random) {
+        return minWeight + random.nextInt(maxWeight - minWeight + 1);
+    }
+
+    // ====== Output ======
+
+    /**
+     * Streams the graph as JSON in the {@link GraphLoader} schema, one edge per line.
+     *
+     * @param file destination file (overwritten)
+     * @return number of edges written
+     */
+    public long writeJson(Path file) throws IOException {
+        SplitMix random = new SplitMix(seed);
+        long[] written = {0};
+        try (Writer out = new BufferedWriter(new OutputStreamWriter(Files.newOutputStream(file),
+                StandardCharsets.UTF_8), 1 << 20)) {
+            out.write("{\n  \"directed\": true,\n  \"n\": " + numVertices
+                    + ",\n  \"weight_model\": \"edge\",\n  \"source\": " + getSourceVertex()
+                    + ",\n  \"edges\": [");
+            for (int x = 0; x < numVertices; x++) {
+                final int from = x;
+                generate(x, random, (to, weight) -> {
+                    out.write(written[0] == 0 ? "\n    " : ",\n    ");
+                    out.write("{\"u\": ");
+                    out.write(Integer.toString(from));
+                    out.write(", \"v\": ");
+                    out.write(Integer.toString(to));
+                    out.write(", \"w\": ");
+                    out.write(Integer.toString(weight));
+                    out.write('}');
+                    written[0]++;
+                });
+            }
+            out.write("\n  ]\n}\n");
+        }
+        return written[0];
+    }
+
+    /**
+     * Writes the graph as a {@link GraphSnapshot}. Out-degrees are computed in a first pass
+     * (O(V) memory); targets and weights are regenerated vertex by vertex while writing.
+     *
+     * @param file destination file (overwritten)
+     * @return number of edges written
+     */
+    public long writeSnapshot(Path file) throws IOException {
+        StreamingAdjacency adjacency = new StreamingAdjacency();
+        GraphSnapshot.write(adjacency, getSourceVertex(), "edge", file);
+        return adjacency.totalEdges;
+    }
+
+    /**
+     * Sequential-access {@link Adjacency} over the generator: out-degrees are precomputed,
+     * and the edges of one vertex at a time are regenerated into a small buffer.
+     * Intended for single-pass consumers such as {@link GraphSnapshot#write}.
+     */
+    private class StreamingAdjacency implements Adjacency {
+        private final int[] degrees = new int[numVertices];
+        private final SplitMix random = new SplitMix(seed);
+        private int[] targets = new int[16];
+        private int[] weights = new int[16];
+        private int current = -1;
+        private int count;
+        private long totalEdges;
+
+        StreamingAdjacency() throws IOException {
+            for (int x = 0; x < numVertices; x++) {
+                load(x);
+                degrees[x] = count;
+                totalEdges += count;
+            }
+            current = -1;
+        }
+
+        private void load(int vertex) throws IOException {
+            count = 0;
+            generate(vertex, random, (to, weight) -> {
+                if (count == targets.length) {
+                    targets = Arrays.copyOf(targets, count * 2);
+                    weights = Arrays.copyOf(weights, count * 2);
+                }
+                targets[count] = to;
+                weights[count] = weight;
+                count++;
+            });
+            current = vertex;
+        }
+
+        private void ensure(int vertex) {
+            if (vertex != current) {
+                try {
+                    load(vertex);
+                } catch (IOException e) {
+                    throw new IllegalStateException(e);
+                }
+            }
+        }
+
+        @Override
+        public int getNumVertices() {
+            return numVertices;
+        }
+
+        @Override
+        public boolean isDirected() {
+            return true;
+        }
+
+        @Override
+        public int outDegree(int vertex) {
+            return degrees[vertex];
+        }
+
+        @Override
+        public int target(int vertex, int index) {
+            ensure(vertex);
+            return targets[index];
+        }
+
+        @Override
+        public int weight(int vertex, int index) {
+            ensure(vertex);
+            return weights[index];
+        }
+    }
+
+    // ====== Helpers ======
+
+    private static long gcd(long a, long b) {
+        while (b != 0) {
+            long t = a % b;
+            a = b;
+            b = t;
+        }
+        return a;
+    }
+
+    private static long modInverse(long a, long m) {
+        long oldR = a, r = m, oldS = 1, s = 0;
+        while (r != 0) {
+            long q = oldR / r;
+            long t = oldR - q * r;
+            oldR = r;
+            r = t;
+            t = oldS - q * s;
+            oldS = s;
+            s = t;
+        }
+        return ((oldS % m) + m) % m;
+    }
+
+    /**
+     * Allocation-free SplitMix64 generator that can be re-seeded per vertex.
+     */
+    private static final class SplitMix {
+        private long state;
+
+        SplitMix(long seed) {
+            reset(seed);
+        }
+
+        void reset(long seed) {
+            state = seed;
+        }
+
+        long nextLong() {
+            long z = (state += 0x9E3779B97F4A7C15L);
+            z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+            z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+            return z ^ (z >>> 31);
+        }
+
+        int nextInt(int bound) {
+            return (int) (((nextLong() >>> 33) * bound) >>> 31);
+        }
+
+        double nextDouble() {
+            return (nextLong() >>> 11) * 0x1.0p-53;
+        }
+    }
+
+    /**
+     * Configures a {@link GraphGenerator}.
+     */
+    public static class Builder {
+        private int numVertices = 1000;
+        private long numEdges = 4000;
+        private int minSccSize = 1;
+        private int maxSccSize = 1;
+        private SizeDistribution sizeDistribution = SizeDistribution.FIXED;
+        private int depth = 10;
+        private double intraFraction = 0.3;
+        private int minWeight = 1;
+        private int maxWeight = 10;
+        private long seed = 42L;
+        private boolean shuffle = true;
+
+        public Builder vertices(int numVertices) {
+            if (numVertices < 1) throw new IllegalArgumentException("Need at least one vertex: " + numVertices);
+            this.numVertices = numVertices;
+            return this;
+        }
+
+        /**
+         * Target edge count. Ring and level-link edges are always generated, so the
+         * result has at least those; extra edges of singleton SCCs on the last level are dropped.
+         */
+        public Builder edges(long numEdges) {
+            if (numEdges < 0) throw new IllegalArgumentException("Edge count must be non-negative: " + numEdges);
+            this.numEdges = numEdges;
+            return this;
+        }
+
+        public Builder sccSizes(SizeDistribution distribution, int min, int max) {
+            if (min < 1 || max < min) {
+                throw new IllegalArgumentException("Invalid SCC size range [" + min + ", " + max + "]");
+            }
+            this.sizeDistribution = distribution;
+            this.minSccSize = min;
+            this.maxSccSize = max;
+            return this;
+        }
+
+        public Builder depth(int depth) {
+            if (depth < 1) throw new IllegalArgumentException("Depth must be positive: " + depth);
+            this.depth = depth;
+            return this;
+        }
+
+        public Builder intraFraction(double intraFraction) {
+            if (intraFraction < 0 || intraFraction > 1) {
+                throw new IllegalArgumentException("Fraction must be in [0, 1]: " + intraFraction);
+            }
+            this.intraFraction = intraFraction;
+            return this;
+        }
+
+        public Builder weights(int min, int max) {
+            if (max < min) throw new IllegalArgumentException("Invalid weight range [" + min + ", " + max + "]");
+            this.minWeight = min;
+            this.maxWeight = max;
+            return this;
+        }
+
+        public Builder seed(long seed) {
+            this.seed = seed;
+            return this;
+        }
+
+        /** Whether vertex ids are scrambled (by an affine bijection) instead of grouped by SCC. */
+        public Builder shuffle(boolean shuffle) {
+            this.shuffle = shuffle;
+            return this;
+        }
+
+        public GraphGenerator build() {
+            return new GraphGenerator(this);
+        }
+    }
+
+    public static void main(String[] args) throws IOException {
+        Builder builder = new Builder();
+        String out = null;
+        SizeDistribution distribution = SizeDistribution.FIXED;
+        int sccMin = 1;
+        int sccMax = 1;
+
+        for (int i = 0; i < args.length; i++) {
+            switch (args[i]) {
+                case "--vertices" -> builder.vertices(Integer.parseInt(args[++i]));
+                case "--edges" -> builder.edges(Long.parseLong(args[++i]));
+                case "--scc-min" -> sccMin = Integer.parseInt(args[++i]);
+                case "--scc-max" -> sccMax = Integer.parseInt(args[++i]);
+                case "--scc-dist" -> distribution = SizeDistribution.valueOf(args[++i].toUpperCase(Locale.ROOT));
+                case "--depth" -> builder.depth(Integer.parseInt(args[++i]));
+                case "--intra" -> builder.intraFraction(Double.parseDouble(args[++i]));
+                case "--weights" -> builder.weights(Integer.parseInt(args[++i]), Integer.parseInt(args[++i]));
+                case "--seed" -> builder.seed(Long.parseLong(args[++i]));
+                case "--no-shuffle" -> builder.shuffle(false);
+                case "--out" -> out = args[++i];
+                default -> throw new IllegalArgumentException("Unknown option: " + args[i]);
+            }
+        }
+        if (out == null) {
+            throw new IllegalArgumentException("Missing --out <file.json|file.bin>");
+        }
+
+        GraphGenerator generator = builder.sccSizes(distribution, sccMin, Math.max(sccMin, sccMax)).build();
+        Path path = Paths.get(out);
+        Metrics metrics = new Metrics();
+        metrics.startTiming();
+        long edges = out.endsWith(".bin") ? generator.writeSnapshot(path) : generator.writeJson(path);
+        metrics.stopTiming();
+
+        System.out.printf(Locale.US, "%s: %d vertices, %d edges, %d SCCs, depth %d (%.1f s)%n",
+                out, generator.getNumVertices(), edges, generator.getNumSccs(), generator.getDepth(),
+                metrics.getElapsedMillis() / 1000.0);
+    }
+}
@@ -1,45 +1,160 @@
 package com.utils;
 
+import com.model.CSRGraph;
 import com.model.Graph;
-import com.google.gson.Gson;
-import com.google.gson.JsonObject;
-import com.google.gson.JsonArray;
-import com.google.gson.JsonElement;
+import com.google.gson.stream.JsonReader;
 
-import java.io.FileReader;
+import java.io.BufferedReader;
 import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.Arrays;
 
 
 public class GraphLoader {
 
     /**
-     * Reads a JSON
+     * Reads a JSON graph file into a list-based {@link Graph}.
+     * The file is streamed token by token; no JSON tree is built.
      **/
     public static GraphData loadFromFile(String filePath) throws IOException {
-        Gson gson = new Gson();
-        JsonObject jsonRoot = gson.fromJson(new FileReader(filePath), JsonObject.class);
+        ParsedGraph parsed = parse(filePath);
 
-        boolean isDirected = jsonRoot.get("directed").getAsBoolean();
-        int numVertices = jsonRoot.get("n").getAsInt();
+        Graph graph = new Graph(parsed.numVertices, parsed.isDirected);
+        graph.setWeightType(parsed.weightType);
+        EdgeBuffer edges = parsed.edges;
+        for (int i = 0; i < edges.size; i++) {
+            graph.addEdge(edges.from[i], edges.to[i], edges.weight[i]);
+        }
+
+        return new GraphData(graph, parsed.sourceVertex, parsed.weightType);
+    }
+
+    /**
+     * Reads a JSON graph file straight into an immutable {@link CSRGraph}.
+     * Peak memory is the primitive edge buffer plus the final CSR arrays.
+     **/
+    public static CSRGraphData loadCSRFromFile(String filePath) throws IOException {
+        ParsedGraph parsed = parse(filePath);
+        EdgeBuffer edges = parsed.edges;
+        CSRGraph graph = CSRGraph.fromEdges(parsed.numVertices, parsed.isDirected, parsed.weightType,
+                edges.from, edges.to, edges.weight, edges.size);
+        return new CSRGraphData(graph, parsed.sourceVertex, parsed.weightType);
+    }
+
+    /**
+     * Streams the top-level object. Keys may appear in any order; unknown keys are skipped.
+     */
+    private static ParsedGraph parse(String filePath) throws IOException {
+        Boolean isDirected = null;
+        int numVertices = -1;
+        String weightType = "edge";
+        int sourceVertex = 0;
+        EdgeBuffer edges = new EdgeBuffer();
+
+        try (Reader fileReader = new BufferedReader(new InputStreamReader(
+                Files.newInputStream(Paths.get(filePath)), StandardCharsets.UTF_8), 1 << 16);
+             JsonReader reader = new JsonReader(fileReader)) {
+            reader.beginObject();
+            while (reader.hasNext()) {
+                switch (reader.nextName()) {
+                    case "directed" -> isDirected = reader.nextBoolean();
+                    case "n" -> numVertices = reader.nextInt();
+                    case "weight_model" -> weightType = reader.nextString();
+                    case "source" -> sourceVertex = reader.nextInt();
+                    case "edges" -> readEdges(reader, edges);
+                    default -> reader.skipValue();
+                }
+            }
+            reader.endObject();
+        }
+
+        if (isDirected == null) {
+            throw new IOException("Missing \"directed\" in " + filePath);
+        }
+        if (numVertices < 0) {
+            throw new IOException("Missing \"n\" in " + filePath);
+        }
+        return new ParsedGraph(isDirected, numVertices, weightType, sourceVertex, edges);
+    }
+
+    /**
+     * Reads the "edges" array of {"u", "v", "w"} objects into the buffer.
+     */
+    private static void readEdges(JsonReader reader, EdgeBuffer edges) throws IOException {
+        reader.beginArray();
+        while (reader.hasNext()) {
+            int from = -1;
+            int to = -1;
+            int weight = 0;
+            boolean hasWeight = false;
+
+            reader.beginObject();
+            while (reader.hasNext()) {
+                switch (reader.nextName()) {
+                    case "u" -> from = reader.nextInt();
+                    case "v" -> to = reader.nextInt();
+                    case "w" -> {
+                        weight = reader.nextInt();
+                        hasWeight = true;
+                    }
+                    default -> reader.skipValue();
+                }
+            }
+            reader.endObject();
+
+            if (from < 0 || to < 0 || !hasWeight) {
+                throw new IOException("Edge #" + edges.size + " must have \"u\", \"v\" and \"w\" at "
+                        + reader.getPath());
+            }
+            edges.add(from, to, weight);
+        }
+        reader.endArray();
+    }
 
-        Graph graph = new Graph(numVertices, isDirected);
-        String weightType = jsonRoot.has("weight_model")
-                ? jsonRoot.get("weight_model").getAsString()
-                : "edge";
-        graph.setWeightType(weightType);
+    /**
+     * Growable primitive edge arrays (12 bytes per edge).
+     */
+    private static class EdgeBuffer {
+        int[] from = new int[64];
+        int[] to = new int[64];
+        int[] weight = new int[64];
+        int size;
 
-        JsonArray edgeList = jsonRoot.getAsJsonArray("edges");
-        for (JsonElement item : edgeList) {
-            JsonObject edgeObj = item.getAsJsonObject();
-            int from = edgeObj.get("u").getAsInt();
-            int to = edgeObj.get("v").getAsInt();
-            int weight = edgeObj.get("w").getAsInt();
-            graph.addEdge(from, to, weight);
+        void add(int u, int v, int w) {
+            if (size == from.length) {
+                int capacity = from.length + (from.length >> 1);
+                from = Arrays.copyOf(from, capacity);
+                to = Arrays.copyOf(to, capacity);
+                weight = Arrays.copyOf(weight, capacity);
+            }
+            from[size] = u;
+            to[size] = v;
+            weight[size] = w;
+            size++;
         }
+    }
 
-        int sourceVertex = jsonRoot.has("source") ? jsonRoot.get("source").getAsInt() : 0;
+    /**
+     * Header fields plus buffered edges of a parsed file.
+     */
+    private static class ParsedGraph {
+        final boolean isDirected;
+        final int numVertices;
+        final String weightType;
+        final int sourceVertex;
+        final EdgeBuffer edges;
 
-        return new GraphData(graph, sourceVertex, weightType);
+        ParsedGraph(boolean isDirected, int numVertices, String weightType, int sourceVertex, EdgeBuffer edges) {
+            this.isDirected = isDirected;
+            this.numVertices = numVertices;
+            this.weightType = weightType;
+            this.sourceVertex = sourceVertex;
+            this.edges = edges;
+        }
     }
 
     /**
@@ -56,4 +171,19 @@ public class GraphLoader {
             this.weightType = weightType;
         }
     }
+
+    /**
+     * Container class to store loaded CSR graph data.
+     */
+    public static class CSRGraphData {
+        public final CSRGraph graph;
+        public final int sourceVertex;
+        public final String weightType;
+
+        public CSRGraphData(CSRGraph graph, int sourceVertex, String weightType) {
+            this.graph = graph;
+            this.sourceVertex = sourceVertex;
+            this.weightType = weightType;
+        }
+    }
 }
@@ -0,0 +1,205 @@
+package com.utils;
+
+import com.model.Adjacency;
+import com.model.MappedGraph;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.IntBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Compact binary on-disk format for graphs, loaded with {@link FileChannel#map}.
+ *
+ * Layout (little-endian):
+ * <pre>
+ * int    magic          "DAGS"
+ * int    version        1
+ * int    flags          bit 0 = directed
+ * int    numVertices    V
+ * long   numEdges       E (stored, i.e. already mirrored for undirected graphs)
+ * int    sourceVertex
+ * int    weightTypeLen  L
+ * byte[L] weightType    UTF-8, zero-padded to a multiple of 4
+ * int[V + 1] offsets
+ * int[E]     targets
+ * int[E]     weights
+ * </pre>
+ * Each int section is mapped separately, so one file may exceed the 2 GB limit of a single mapping,
+ * but every section must fit in one: graphs with more than {@link #MAX_SECTION_INTS} vertices
+ * or edges are rejected by {@link #write}.
+ */
+public class GraphSnapshot {
+    public static final int MAGIC = 0x44414753;
+    public static final int VERSION = 1;
+    /** Most ints one section can hold, since {@link FileChannel#map} is limited to 2 GB. */
+    public static final long MAX_SECTION_INTS = Integer.MAX_VALUE / 4;
+
+    private static final int FLAG_DIRECTED = 1;
+    private static final int CHUNK_INTS = 1 << 16;
+
+    /**
+     * Writes a graph snapshot.
+     *
+     * @param graph graph to store
+     * @param sourceVertex source vertex recorded in the header
+     * @param weightType weight model recorded in the header
+     * @param file destination file (overwritten)
+     * @throws IOException if writing fails or a section would be too large to map
+     * @complexity O(V + E)
+     */
+    public static void write(Adjacency graph, int sourceVertex, String weightType, Path file) throws IOException {
+        int n = graph.getNumVertices();
+        long edges = 0;
+        for (int u = 0; u < n; u++) {
+            edges += graph.outDegree(u);
+        }
+        checkMappable(n, edges, file);
+
+        byte[] typeBytes = weightType.getBytes(StandardCharsets.UTF_8);
+        int paddedType = (typeBytes.length + 3) & ~3;
+
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            ByteBuffer header = ByteBuffer.allocate(32 + paddedType).order(ByteOrder.LITTLE_ENDIAN);
+            header.putInt(MAGIC)
+                    .putInt(VERSION)
+                    .putInt(graph.isDirected() ? FLAG_DIRECTED : 0)
+                    .putInt(n)
+                    .putLong(edges)
+                    .putInt(sourceVertex)
+                    .putInt(typeBytes.length)
+                    .put(typeBytes);
+            header.position(header.capacity());
+            header.flip();
+            writeFully(channel, header);
+
+            ByteBuffer chunk = ByteBuffer.allocate(CHUNK_INTS * 4).order(ByteOrder.LITTLE_ENDIAN);
+
+            // offsets
+            int offset = 0;
+            chunk.putInt(offset);
+            for (int u = 0; u < n; u++) {
+                offset += graph.outDegree(u);
+                putInt(channel, chunk, offset);
+            }
+            flush(channel, chunk);
+
+            // targets
+            for (int u = 0; u < n; u++) {
+                for (int i = 0, degree = graph.outDegree(u); i < degree; i++) {
+                    putInt(channel, chunk, graph.target(u, i));
+                }
+            }
+            flush(channel, chunk);
+
+            // weights
+            for (int u = 0; u < n; u++) {
+                for (int i = 0, degree = graph.outDegree(u); i < degree; i++) {
+                    putInt(channel, chunk, graph.weight(u, i));
+                }
+            }
+            flush(channel, chunk);
+        }
+    }
+
+    /**
+     * Memory-maps a snapshot. The channel is closed immediately; the mappings stay valid
+     * until the returned graph becomes unreachable.
+     *
+     * @param file snapshot file
+     * @return mapped graph plus header fields
+     */
+    public static SnapshotData open(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            ByteBuffer fixed = map(channel, 0, 32);
+            if (fixed.getInt() != MAGIC) {
+                throw new IOException("Not a graph snapshot: " + file);
+            }
+            int version = fixed.getInt();
+            if (version != VERSION) {
+                throw new IOException("Unsupported snapshot version " + version + ": " + file);
+            }
+            int flags = fixed.getInt();
+            int n = fixed.getInt();
+            long edges = fixed.getLong();
+            int sourceVertex = fixed.getInt();
+            int typeLength = fixed.getInt();
+            checkMappable(n, edges, file);
+
+            long position = 32;
+            if (typeLength < 0 || position + typeLength > channel.size()) {
+                throw new IOException("Corrupt weight model length " + typeLength + ": " + file);
+            }
+            byte[] typeBytes = new byte[typeLength];
+            map(channel, position, typeLength).get(typeBytes);
+            position += (typeLength + 3) & ~3;
+
+            long expectedSize = position + 4L * (n + 1) + 8L * edges;
+            if (channel.size() != expectedSize) {
+                throw new IOException("Truncated snapshot (" + channel.size() + " of "
+                        + expectedSize + " bytes): " + file);
+            }
+
+            IntBuffer offsets = map(channel, position, 4L * (n + 1)).asIntBuffer();
+            position += 4L * (n + 1);
+            IntBuffer targets = map(channel, position, 4L * edges).asIntBuffer();
+            position += 4L * edges;
+            IntBuffer weights = map(channel, position, 4L * edges).asIntBuffer();
+
+            String weightType = new String(typeBytes, StandardCharsets.UTF_8);
+            MappedGraph graph = new MappedGraph(n, (flags & FLAG_DIRECTED) != 0, weightType,
+                    offsets, targets, weights);
+            return new SnapshotData(graph, sourceVertex, weightType);
+        }
+    }
+
+    private static void checkMappable(int n, long edges, Path file) throws IOException {
+        if (n < 0 || edges < 0 || n + 1L > MAX_SECTION_INTS || edges > MAX_SECTION_INTS) {
+            throw new IOException("Graph too large for a snapshot (" + n + " vertices, " + edges
+                    + " edges, at most " + MAX_SECTION_INTS + " per section): " + file);
+        }
+    }
+
+    private static ByteBuffer map(FileChannel channel, long position, long size) throws IOException {
+        return channel.map(FileChannel.MapMode.READ_ONLY, position, size).order(ByteOrder.LITTLE_ENDIAN);
+    }
+
+    private static void putInt(FileChannel channel, ByteBuffer chunk, int value) throws IOException {
+        if (!chunk.hasRemaining()) {
+            flush(channel, chunk);
+        }
+        chunk.putInt(value);
+    }
+
+    private static void flush(FileChannel channel, ByteBuffer chunk) throws IOException {
+        chunk.flip();
+        writeFully(channel, chunk);
+        chunk.clear();
+    }
+
+    private static void writeFully(FileChannel channel, ByteBuffer buffer) throws IOException {
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+    }
+
+    /**
+     * Container class to store a mapped snapshot.
+     */
+    public static class SnapshotData {
+        public final MappedGraph graph;
+        public final int sourceVertex;
+        public final String weightType;
+
+        public SnapshotData(MappedGraph graph, int sourceVertex, String weightType) {
+            this.graph = graph;
+            this.sourceVertex = sourceVertex;
+            this.weightType = weightType;
+        }
+    }
+}
@@ -44,6 +44,17 @@ public class Metrics {
         return (endNano - startNano) / 1_000_000.0;
     }
 
+    /**
+     * Returns an independent snapshot of the counters and the timing window.
+     */
+    public Metrics copy() {
+        Metrics snapshot = new Metrics();
+        snapshot.operationCount = operationCount;
+        snapshot.startNano = startNano;
+        snapshot.endNano = endNano;
+        return snapshot;
+    }
+
     public void reset() {
         clear();
     }
@@ -0,0 +1,55 @@
+package com.utils;
+
+import java.io.IOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Converts JSON graph files into binary snapshots ({@code name.json -> name.bin}).
+ *
+ * Usage: {@code java com.utils.SnapshotConverter [file-or-directory ...]} (default: {@code data})
+ */
+public class SnapshotConverter {
+
+    public static void main(String[] args) throws IOException {
+        String[] inputs = args.length > 0 ? args : new String[]{"data"};
+
+        List<Path> files = new ArrayList<>();
+        for (String input : inputs) {
+            Path path = Paths.get(input);
+            if (Files.isDirectory(path)) {
+                try (DirectoryStream<Path> stream = Files.newDirectoryStream(path, "*.json")) {
+                    stream.forEach(files::add);
+                }
+            } else {
+                files.add(path);
+            }
+        }
+
+        for (Path json : files) {
+            Path bin = snapshotPathFor(json);
+            GraphLoader.CSRGraphData data = GraphLoader.loadCSRFromFile(json.toString());
+            GraphSnapshot.write(data.graph, data.sourceVertex, data.weightType, bin);
+            System.out.printf(Locale.US, "%s -> %s (%d vertices, %d edges, %d bytes)%n",
+                    json, bin, data.graph.getNumVertices(), data.graph.getNumEdges(), Files.size(bin));
+        }
+    }
+
+    /**
+     * Returns the snapshot path that belongs to a JSON file.
+     *
+     * @param json JSON graph file
+     * @return sibling path with a {@code .bin} extension
+     */
+    public static Path snapshotPathFor(Path json) {
+        String name = json.getFileName().toString();
+        int dot = name.lastIndexOf('.');
+        String base = dot > 0 ? name.substring(0, dot) : name;
+        return json.resolveSibling(base + ".bin");
+    }
+}
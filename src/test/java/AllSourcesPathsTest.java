@@ -0,0 +1,69 @@
+import com.algorithms.AllSourcesPaths;
+import com.algorithms.DAG;
+import com.benchmark.BenchmarkGraphs;
+import com.model.CSRGraph;
+import com.model.Graph;
+import org.junit.Test;
+import static org.junit.Assert.*;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+public class AllSourcesPathsTest {
+
+    private final CSRGraph graph = CSRGraph.fromGraph(BenchmarkGraphs.randomDag(300, 1_500, 9, 17L));
+
+    // Test every matrix row equals a single-source query
+    @Test
+    public void testMatrixMatchesSingleSource() {
+        DAG dag = new DAG(graph);
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            AllSourcesPaths batch = new AllSourcesPaths(dag, pool);
+            int[] sources = batch.allVertices();
+            AllSourcesPaths.DistanceMatrix shortest = batch.computeShortest(sources);
+            AllSourcesPaths.DistanceMatrix longest = batch.computeLongest(sources);
+
+            assertEquals(300, shortest.getRowCount());
+            assertFalse(shortest.isLongest());
+            assertTrue(longest.isLongest());
+            long operations = 0;
+            for (int row = 0; row < sources.length; row++) {
+                DAG.PathResult expected = dag.computeShortestPaths(sources[row]);
+                assertArrayEquals(expected.getDistances(), shortest.getRow(row));
+                assertArrayEquals(dag.computeLongestPaths(sources[row]).getDistances(), longest.getRow(row));
+                operations += expected.getMetrics().getOperations();
+            }
+            assertEquals(operations, shortest.getMetrics().getOperations());
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    // Test streamed rows match the matrix for a subset of sources
+    @Test
+    public void testSinkMatchesMatrix() {
+        AllSourcesPaths batch = new AllSourcesPaths(new DAG(graph));
+        int[] sources = {7, 0, 299, 42, 7};
+        AllSourcesPaths.DistanceMatrix matrix = batch.computeLongest(sources);
+
+        AtomicIntegerArray checked = new AtomicIntegerArray(sources.length);
+        batch.streamLongest(sources, (row, source, distances) -> {
+            assertEquals(sources[row], source);
+            assertArrayEquals(matrix.getRow(row), distances);
+            checked.incrementAndGet(row);
+        });
+
+        for (int row = 0; row < sources.length; row++) {
+            assertEquals(1, checked.get(row));
+            assertEquals(sources[row], matrix.getSource(row));
+        }
+        assertEquals(0, matrix.get(3, 42));
+    }
+
+    // Test a matrix too large for one array is refused before allocation
+    @Test(expected = IllegalArgumentException.class)
+    public void testMatrixTooLarge() {
+        AllSourcesPaths batch = new AllSourcesPaths(new DAG(new Graph(60_000, true)));
+        batch.computeShortest(batch.allVertices());
+    }
+}
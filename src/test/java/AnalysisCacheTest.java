@@ -0,0 +1,103 @@
+import com.model.CSRGraph;
+import com.model.Graph;
+import com.utils.AnalysisCache;
+import com.utils.CachedAnalysis;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import static org.junit.Assert.*;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+
+public class AnalysisCacheTest {
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private Graph sampleGraph() {
+        Graph graph = new Graph(4, true);
+        graph.addEdge(0, 1, 2);
+        graph.addEdge(1, 0, 3);
+        graph.addEdge(1, 2, 4);
+        graph.addEdge(2, 3, 5);
+        return graph;
+    }
+
+    private CachedAnalysis sampleAnalysis() {
+        CSRGraph condensation = new CSRGraph.Builder(3, true).addEdge(2, 1, 4).addEdge(1, 0, 5).build();
+        return new CachedAnalysis(new int[][]{{3}, {2}, {0, 1}}, condensation, true, new int[]{2, 1, 0}, 2,
+                new int[]{9, 4, 0}, new int[]{1, 2, -1}, new int[]{9, 4, 0}, new int[]{1, 2, -1},
+                new int[]{2, 1, 0}, 9, 2, 0);
+    }
+
+    // Test equal content gives equal keys and any change, including the pipeline, gives a new key
+    @Test
+    public void testContentHash() {
+        String key = AnalysisCache.contentHash(sampleGraph(), "edge", 0, "tarjan");
+        assertEquals(key, AnalysisCache.contentHash(CSRGraph.fromGraph(sampleGraph()), "edge", 0, "tarjan"));
+        assertNotEquals(key, AnalysisCache.contentHash(sampleGraph(), "edge", 1, "tarjan"));
+        assertNotEquals(key, AnalysisCache.contentHash(sampleGraph(), "node", 0, "tarjan"));
+        assertNotEquals(key, AnalysisCache.contentHash(sampleGraph(), "edge", 0, "parallel"));
+
+        Graph changed = sampleGraph();
+        changed.addEdge(3, 0, 1);
+        assertNotEquals(key, AnalysisCache.contentHash(changed, "edge", 0, "tarjan"));
+    }
+
+    // Test an entry round trips through the cache
+    @Test
+    public void testPutAndGet() throws IOException {
+        AnalysisCache cache = new AnalysisCache(folder.getRoot().toPath(), 1 << 20);
+        String key = AnalysisCache.contentHash(sampleGraph(), "edge", 0, "tarjan");
+
+        assertNull(cache.get(key));
+        cache.put(key, sampleAnalysis());
+        CachedAnalysis cached = cache.get(key);
+
+        assertNotNull(cached);
+        assertArrayEquals(new int[]{0, 1}, cached.components[2]);
+        assertEquals(1, cached.condensation.outDegree(2));
+        assertEquals(4, cached.condensation.weight(2, 0));
+        assertArrayEquals(new int[]{2, 1, 0}, cached.componentOrder);
+        assertArrayEquals(new int[]{9, 4, 0}, cached.longestDistances);
+        assertEquals(9, cached.criticalLength);
+        assertTrue(cached.isDAG);
+    }
+
+    // Test least recently used entries are evicted over the size bound
+    @Test
+    public void testLruEviction() throws IOException {
+        Path dir = folder.getRoot().toPath();
+        AnalysisCache probe = new AnalysisCache(dir, Long.MAX_VALUE);
+        probe.put("probe", sampleAnalysis());
+        long entrySize = probe.sizeInBytes();
+        probe.invalidate("probe");
+
+        AnalysisCache cache = new AnalysisCache(dir, entrySize * 2);
+        cache.put("a", sampleAnalysis());
+        cache.put("b", sampleAnalysis());
+        Files.setLastModifiedTime(dir.resolve("a.analysis"), FileTime.fromMillis(1_000));
+        Files.setLastModifiedTime(dir.resolve("b.analysis"), FileTime.fromMillis(2_000));
+        cache.get("a");
+
+        cache.put("c", sampleAnalysis());
+
+        assertNotNull(cache.get("a"));
+        assertNull(cache.get("b"));
+        assertNotNull(cache.get("c"));
+        assertTrue(cache.sizeInBytes() <= entrySize * 2);
+    }
+
+    // Test corrupt entries are dropped and reported as misses
+    @Test
+    public void testCorruptEntry() throws IOException {
+        Path dir = folder.getRoot().toPath();
+        AnalysisCache cache = new AnalysisCache(dir, 1 << 20);
+        Files.write(dir.resolve("bad.analysis"), new byte[]{1, 2, 3});
+
+        assertNull(cache.get("bad"));
+        assertFalse(Files.exists(dir.resolve("bad.analysis")));
+    }
+}
@@ -0,0 +1,108 @@
+import com.algorithms.CPM;
+import com.algorithms.ComponentTS;
+import com.algorithms.CondensationBuilder;
+import com.algorithms.CondensationGraph;
+import com.algorithms.DAG;
+import com.benchmark.BenchmarkGraphs;
+import com.model.Graph;
+import org.junit.Test;
+import static org.junit.Assert.*;
+import java.util.Arrays;
+
+public class CPMTest {
+
+    // Test textbook starts, floats and critical edges, with a cycle collapsed into one task
+    @Test
+    public void testSmallSchedule() {
+        Graph graph = new Graph(7, true);
+        graph.addEdge(0, 1, 3);
+        graph.addEdge(0, 2, 2);
+        graph.addEdge(1, 3, 4);
+        graph.addEdge(2, 3, 1);
+        graph.addEdge(3, 4, 2);
+        graph.addEdge(2, 5, 1);
+        graph.addEdge(5, 6, 1);
+        graph.addEdge(6, 5, 1);
+
+        CPM.Schedule schedule = new CPM(TestGraphs.condense(graph)).computeSchedule();
+
+        assertEquals(9, schedule.getMakespan());
+        assertEquals(6, schedule.getComponentCount());
+        int[] earliest = {0, 3, 2, 7, 9, 3, 3};
+        int[] latest = {0, 3, 6, 7, 9, 9, 9};
+        int[] free = {0, 0, 0, 0, 0, 6, 6};
+        for (int v = 0; v < 7; v++) {
+            assertEquals(earliest[v], schedule.getVertexEarliestStart(v));
+            assertEquals(latest[v], schedule.getVertexLatestStart(v));
+            assertEquals(latest[v] - earliest[v], schedule.getVertexTotalFloat(v));
+            assertEquals(free[v], schedule.getVertexFreeFloat(v));
+        }
+
+        assertEquals(Arrays.asList(0, 1, 3, 4), schedule.getCriticalVertices());
+        assertEquals(3, schedule.getCriticalEdgeCount());
+        assertTrue(schedule.isCriticalEdge(0, 1));
+        assertTrue(schedule.isCriticalEdge(1, 3));
+        assertTrue(schedule.isCriticalEdge(3, 4));
+        assertFalse(schedule.isCriticalEdge(0, 2));
+        assertFalse(schedule.isCriticalEdge(5, 6));
+    }
+
+    // Test schedule invariants on a random DAG and agreement with the critical path length
+    @Test
+    public void testScheduleInvariants() {
+        Graph graph = BenchmarkGraphs.layeredDag(3_000, 60, 3, 9, 11L);
+        CondensationGraph condensation = TestGraphs.condense(graph);
+        ComponentTS.ComponentTopoResult order = new ComponentTS(condensation).performSort();
+        CPM.Schedule schedule = new CPM(condensation, order).computeSchedule();
+
+        // Duplicate edges of the generator merge; CPM keeps their largest lag
+        Graph dag = condensation.withWeightPolicy(CondensationBuilder.WeightPolicy.MAX).getCondensationGraph();
+        assertEquals(new DAG(dag).findCriticalPath().getTotalLength(), schedule.getMakespan());
+
+        int critical = 0;
+        for (int u = 0; u < dag.getNumVertices(); u++) {
+            assertTrue(schedule.getTotalFloat(u) >= 0);
+            assertTrue(schedule.getFreeFloat(u) >= 0);
+            assertTrue(schedule.getFreeFloat(u) <= schedule.getTotalFloat(u));
+            for (int i = 0; i < dag.outDegree(u); i++) {
+                int v = dag.target(u, i);
+                int w = dag.weight(u, i);
+                assertTrue(schedule.getEarliestStart(v) >= schedule.getEarliestStart(u) + w);
+                assertTrue(schedule.getLatestStart(v) - w >= schedule.getLatestStart(u));
+                if (schedule.getLatestStart(v) - w == schedule.getEarliestStart(u)) {
+                    critical++;
+                    assertTrue(schedule.isCritical(u) && schedule.isCritical(v));
+                }
+            }
+        }
+        assertEquals(critical, schedule.getCriticalEdgeCount());
+        assertTrue(critical > 0);
+        assertTrue(schedule.getMetrics().getOperations() > 0);
+    }
+
+    // Test parallel edges merged into one component edge keep their largest lag
+    @Test
+    public void testMergedEdgesUseLargestLag() {
+        Graph graph = new Graph(4, true);
+        graph.addEdge(0, 1, 1);
+        graph.addEdge(1, 0, 1);
+        graph.addEdge(0, 2, 1);
+        graph.addEdge(1, 2, 5);
+        graph.addEdge(2, 3, 2);
+
+        CPM.Schedule schedule = new CPM(TestGraphs.condense(graph)).computeSchedule();
+
+        assertEquals(5, schedule.getVertexEarliestStart(2));
+        assertEquals(7, schedule.getMakespan());
+        assertTrue(schedule.isCriticalEdge(0, 2));
+        assertTrue(schedule.isCriticalEdge(1, 2));
+    }
+
+    // Test unknown vertices are rejected
+    @Test(expected = IllegalArgumentException.class)
+    public void testUnknownVertex() {
+        Graph graph = new Graph(2, true);
+        graph.addEdge(0, 1, 1);
+        new CPM(TestGraphs.condense(graph)).computeSchedule().getVertexEarliestStart(5);
+    }
+}
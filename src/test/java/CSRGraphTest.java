@@ -0,0 +1,111 @@
+import com.algorithms.ComponentTS;
+import com.algorithms.CondensationGraph;
+import com.algorithms.DAG;
+import com.algorithms.DFSTopologicalSort;
+import com.algorithms.KahnTopologicalSort;
+import com.algorithms.SCC;
+import com.model.CSRGraph;
+import com.model.Graph;
+import org.junit.Test;
+import static org.junit.Assert.*;
+import java.util.List;
+
+public class CSRGraphTest {
+
+    private Graph sampleGraph() {
+        Graph graph = new Graph(7, true);
+        graph.addEdge(0, 1, 2);
+        graph.addEdge(1, 2, 3);
+        graph.addEdge(2, 0, 1);
+        graph.addEdge(3, 4, 4);
+        graph.addEdge(4, 5, 2);
+        graph.addEdge(5, 6, 1);
+        graph.addEdge(2, 3, 5);
+        return graph;
+    }
+
+    // Test conversion keeps every edge in the same order
+    @Test
+    public void testFromGraphPreservesEdges() {
+        Graph graph = sampleGraph();
+        CSRGraph csr = CSRGraph.fromGraph(graph);
+
+        assertEquals(7, csr.getNumVertices());
+        assertEquals(7, csr.getNumEdges());
+        assertTrue(csr.isDirected());
+        for (int u = 0; u < graph.getNumVertices(); u++) {
+            List<Graph.Edge> edges = graph.getEdgesFrom(u);
+            assertEquals(edges.size(), csr.outDegree(u));
+            for (int i = 0; i < edges.size(); i++) {
+                assertEquals(edges.get(i).getDestination(), csr.target(u, i));
+                assertEquals(edges.get(i).getWeight(), csr.weight(u, i));
+            }
+        }
+    }
+
+    // Test builder groups edges by source and mirrors undirected edges
+    @Test
+    public void testBuilder() {
+        CSRGraph csr = new CSRGraph.Builder(3, false)
+                .weightType("node")
+                .addEdge(2, 0, 7)
+                .addEdge(0, 1, 4)
+                .build();
+
+        assertEquals(4, csr.getNumEdges());
+        assertEquals("node", csr.getWeightType());
+        assertEquals(2, csr.outDegree(0));
+        assertEquals(2, csr.target(0, 0));
+        assertEquals(1, csr.target(0, 1));
+        assertEquals(4, csr.weight(0, 1));
+        assertEquals(1, csr.outDegree(1));
+        assertEquals(1, csr.outDegree(2));
+    }
+
+    // Test out-of-range edges are rejected
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void testBuilderRejectsInvalidVertex() {
+        new CSRGraph.Builder(2, true).addEdge(0, 2, 1);
+    }
+
+    // Test round trip back to list representation
+    @Test
+    public void testToGraph() {
+        Graph graph = new Graph(3, false);
+        graph.addEdge(0, 1, 4);
+        graph.addEdge(1, 2, 6);
+
+        Graph copy = CSRGraph.fromGraph(graph).toGraph();
+
+        assertFalse(copy.isDirected());
+        assertEquals(1, copy.getEdgesFrom(0).size());
+        assertEquals(2, copy.getEdgesFrom(1).size());
+        assertEquals(6, copy.getEdgesFrom(2).get(0).getWeight());
+    }
+
+    // Test every algorithm gives the same answer on both representations
+    @Test
+    public void testAlgorithmsMatchListGraph() {
+        Graph graph = sampleGraph();
+        CSRGraph csr = CSRGraph.fromGraph(graph);
+
+        List<List<Integer>> listComponents = new SCC(graph).computeSCCs().getComponents();
+        List<List<Integer>> csrComponents = new SCC(csr).computeSCCs().getComponents();
+        assertEquals(listComponents, csrComponents);
+
+        assertEquals(new KahnTopologicalSort(graph).computeTopoOrder().isDAG(),
+                new KahnTopologicalSort(csr).computeTopoOrder().isDAG());
+        assertEquals(new DFSTopologicalSort(graph).performSort().getOrder(),
+                new DFSTopologicalSort(csr).performSort().getOrder());
+
+        CondensationGraph condensation = new CondensationGraph(csr, csrComponents);
+        assertTrue(condensation.isDAG());
+        ComponentTS.ComponentTopoResult topo = new ComponentTS(condensation).performSort();
+        assertEquals(7, topo.getTaskOrder().size());
+
+        CSRGraph condensed = CSRGraph.fromGraph(condensation.getCondensationGraph());
+        int source = condensation.getComponentId(0);
+        assertArrayEquals(new DAG(condensation.getCondensationGraph()).computeLongestPaths(source).getDistances(),
+                new DAG(condensed).computeLongestPaths(source).getDistances());
+    }
+}
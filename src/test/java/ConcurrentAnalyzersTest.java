@@ -0,0 +1,104 @@
+import com.algorithms.ComponentTS;
+import com.algorithms.CondensationGraph;
+import com.algorithms.DAG;
+import com.algorithms.DFSTopologicalSort;
+import com.algorithms.KahnTopologicalSort;
+import com.algorithms.ParallelSCC;
+import com.algorithms.SCC;
+import com.benchmark.BenchmarkGraphs;
+import com.model.CSRGraph;
+import org.junit.Test;
+import static org.junit.Assert.*;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+public class ConcurrentAnalyzersTest {
+
+    private static final int QUERIES = 200;
+
+    // Test one DAG instance serves concurrent path queries from virtual threads
+    @Test
+    public void testSharedDagQueries() throws Exception {
+        CSRGraph dag = CSRGraph.fromGraph(BenchmarkGraphs.layeredDag(2_000, 50, 3, 9, 3L));
+        DAG analyzer = new DAG(dag);
+
+        int[][] expectedShortest = new int[QUERIES][];
+        int[][] expectedLongest = new int[QUERIES][];
+        for (int q = 0; q < QUERIES; q++) {
+            expectedShortest[q] = analyzer.computeShortestPaths(q).getDistances();
+            expectedLongest[q] = analyzer.computeLongestPaths(q).getDistances();
+        }
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<Future<int[][]>> futures = new ArrayList<>();
+            for (int q = 0; q < QUERIES; q++) {
+                final int source = q;
+                futures.add(executor.submit(() -> new int[][]{
+                        analyzer.computeShortestPaths(source).getDistances(),
+                        analyzer.computeLongestPaths(source).getDistances()}));
+            }
+            for (int q = 0; q < QUERIES; q++) {
+                int[][] result = futures.get(q).get();
+                assertArrayEquals(expectedShortest[q], result[0]);
+                assertArrayEquals(expectedLongest[q], result[1]);
+            }
+        }
+    }
+
+    // Test shared SCC and topological sorters give identical results across threads
+    @Test
+    public void testSharedSortersAndSCC() throws Exception {
+        CSRGraph graph = CSRGraph.fromGraph(BenchmarkGraphs.clusteredGraph(300, 8, 4, 900, 5, 9L));
+        SCC scc = new SCC(graph);
+        ParallelSCC parallelScc = new ParallelSCC(graph);
+        List<List<Integer>> components = scc.computeSCCs().getComponents();
+        CondensationGraph condensation = new CondensationGraph(graph, components);
+        ComponentTS componentTS = new ComponentTS(condensation);
+        KahnTopologicalSort kahn = new KahnTopologicalSort(condensation.getCondensationGraph());
+        DFSTopologicalSort dfs = new DFSTopologicalSort(condensation.getCondensationGraph());
+
+        List<Integer> kahnOrder = kahn.computeTopoOrder().getOrder();
+        List<Integer> dfsOrder = dfs.performSort().getOrder();
+        List<Integer> taskOrder = componentTS.performSort().getTaskOrder();
+        int parallelCount = parallelScc.computeSCCs().getComponents().size();
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<Future<Boolean>> futures = new ArrayList<>();
+            for (int q = 0; q < 64; q++) {
+                futures.add(executor.submit(() ->
+                        scc.computeSCCs().getComponents().equals(components)
+                                && kahn.computeTopoOrder().getOrder().equals(kahnOrder)
+                                && dfs.performSort().getOrder().equals(dfsOrder)
+                                && componentTS.performSort().getTaskOrder().equals(taskOrder)
+                                && parallelScc.computeSCCs().getComponents().size() == parallelCount));
+            }
+            for (Future<Boolean> future : futures) {
+                assertTrue(future.get());
+            }
+        }
+    }
+
+    // Test metrics of an earlier result are not overwritten by a later call
+    @Test
+    public void testMetricsOwnedByResult() {
+        CSRGraph dag = CSRGraph.fromGraph(BenchmarkGraphs.chain(1_000, 5, 1L));
+        DAG analyzer = new DAG(dag);
+
+        DAG.PathResult first = analyzer.computeShortestPaths(0);
+        long firstOps = first.getMetrics().getOperations();
+        DAG.PathResult second = analyzer.computeShortestPaths(900);
+
+        assertNotSame(first.getMetrics(), second.getMetrics());
+        assertEquals(firstOps, first.getMetrics().getOperations());
+        assertTrue(second.getMetrics().getOperations() < firstOps);
+
+        SCC scc = new SCC(dag);
+        SCC.SCCResult a = scc.computeSCCs();
+        SCC.SCCResult b = scc.computeSCCs();
+        assertNotSame(a.getMetrics(), b.getMetrics());
+        assertEquals(a.getMetrics().getOperations(), b.getMetrics().getOperations());
+    }
+}
@@ -1,3 +1,4 @@
+import com.algorithms.CondensationBuilder;
 import com.algorithms.CondensationGraph;
 import com.algorithms.SCC;
 import com.model.Graph;
@@ -223,4 +224,55 @@ public class CondensationGraphTest {
         }
         assertEquals(5, totalVertices);
     }
+
+    // Test merged edge weight policies
+    @Test
+    public void testWeightPolicies() {
+        Graph graph = new Graph(4, true);
+        graph.addEdge(0, 1, 1);
+        graph.addEdge(1, 0, 1);
+        graph.addEdge(1, 2, 7);
+        graph.addEdge(0, 2, 5);
+        graph.addEdge(0, 3, 2);
+        graph.addEdge(1, 2, 9);
+
+        List<List<Integer>> components = new SCC(graph).computeSCCs().getComponents();
+
+        CondensationGraph first = new CondensationGraph(graph, components);
+        CondensationGraph min = new CondensationGraph(graph, components, CondensationBuilder.WeightPolicy.MIN);
+        CondensationGraph max = new CondensationGraph(graph, components, CondensationBuilder.WeightPolicy.MAX);
+
+        int source = first.getComponentId(0);
+        int target = first.getComponentId(2);
+        assertEquals(2, first.getCondensationGraph().getEdgesFrom(source).size());
+        assertEquals(target, first.getCondensationGraph().getEdgesFrom(source).get(0).getDestination());
+        assertEquals(5, first.getCondensationGraph().getEdgesFrom(source).get(0).getWeight());
+        assertEquals(5, min.getCondensationGraph().getEdgesFrom(source).get(0).getWeight());
+        assertEquals(9, max.getCondensationGraph().getEdgesFrom(source).get(0).getWeight());
+    }
+
+    // Test SCC.createCondensedGraph matches CondensationGraph
+    @Test
+    public void testCreateCondensedGraphMatches() {
+        java.util.Random random = new java.util.Random(5);
+        Graph graph = new Graph(150, true);
+        for (int i = 0; i < 400; i++) {
+            graph.addEdge(random.nextInt(150), random.nextInt(150), 1 + random.nextInt(9));
+        }
+
+        SCC scc = new SCC(graph);
+        SCC.SCCResult result = scc.computeSCCs();
+        Graph fromScc = scc.createCondensedGraph(result, CondensationBuilder.WeightPolicy.MAX);
+        Graph fromCondensation = new CondensationGraph(graph, result.getComponents(),
+                CondensationBuilder.WeightPolicy.MAX).getCondensationGraph();
+
+        assertEquals(fromCondensation.getNumVertices(), fromScc.getNumVertices());
+        for (int c = 0; c < fromScc.getNumVertices(); c++) {
+            assertEquals(fromCondensation.outDegree(c), fromScc.outDegree(c));
+            for (int i = 0; i < fromScc.outDegree(c); i++) {
+                assertEquals(fromCondensation.target(c, i), fromScc.target(c, i));
+                assertEquals(fromCondensation.weight(c, i), fromScc.weight(c, i));
+            }
+        }
+    }
 }
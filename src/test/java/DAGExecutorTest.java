@@ -0,0 +1,165 @@
+import com.algorithms.DAGExecutor;
+import com.benchmark.BenchmarkGraphs;
+import com.model.CSRGraph;
+import com.model.Graph;
+import org.junit.Test;
+import static org.junit.Assert.*;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+public class DAGExecutorTest {
+
+    // Test every task starts after all of its predecessors finished
+    @Test
+    public void testDependenciesRespected() throws Exception {
+        CSRGraph graph = CSRGraph.fromGraph(BenchmarkGraphs.layeredDag(600, 30, 3, 5, 4L));
+        long[] started = new long[600];
+        long[] finished = new long[600];
+        AtomicLong clock = new AtomicLong();
+
+        DAGExecutor.Report report = new DAGExecutor(graph, 8).run(vertex -> {
+            started[vertex] = clock.incrementAndGet();
+            Thread.yield();
+            finished[vertex] = clock.incrementAndGet();
+            return vertex * 2;
+        });
+
+        assertTrue(report.isSuccessful());
+        assertEquals(600, report.getMetrics().getOperations());
+        for (int u = 0; u < 600; u++) {
+            assertEquals(u * 2, report.getResult(u));
+            assertNotNull(report.getTaskMetrics(u));
+            for (int i = 0; i < graph.outDegree(u); i++) {
+                assertTrue(finished[u] < started[graph.target(u, i)]);
+            }
+        }
+    }
+
+    // Test the concurrency limit holds for many independent sleeping tasks
+    @Test
+    public void testMaxConcurrency() throws Exception {
+        Runnable[] tasks = new Runnable[64];
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger peak = new AtomicInteger();
+        for (int v = 0; v < tasks.length; v++) {
+            tasks[v] = () -> {
+                peak.accumulateAndGet(running.incrementAndGet(), Math::max);
+                try {
+                    Thread.sleep(2);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                running.decrementAndGet();
+            };
+        }
+
+        DAGExecutor.Report report = new DAGExecutor(new Graph(64, true), 4).run(tasks);
+
+        assertTrue(report.isSuccessful());
+        assertTrue(peak.get() <= 4);
+        assertTrue(report.getPeakConcurrency() <= 4);
+        assertTrue(report.getTotalTaskNanos() > 0);
+    }
+
+    // Test a failure skips its dependents but not independent branches
+    @Test
+    public void testFailurePropagation() throws Exception {
+        Graph graph = new Graph(5, true);
+        graph.addEdge(0, 1, 1);
+        graph.addEdge(1, 2, 1);
+        graph.addEdge(0, 3, 1);
+        graph.addEdge(3, 2, 1);
+        Callable<?>[] tasks = new Callable<?>[5];
+        for (int v = 0; v < 5; v++) {
+            final int vertex = v;
+            tasks[v] = () -> {
+                if (vertex == 1) throw new IllegalStateException("task 1 broke");
+                return "ok" + vertex;
+            };
+        }
+
+        DAGExecutor.Report report = new DAGExecutor(graph).run(tasks);
+
+        assertEquals(DAGExecutor.TaskStatus.SUCCEEDED, report.getStatus(0));
+        assertEquals(DAGExecutor.TaskStatus.FAILED, report.getStatus(1));
+        assertEquals(DAGExecutor.TaskStatus.SKIPPED, report.getStatus(2));
+        assertEquals(DAGExecutor.TaskStatus.SUCCEEDED, report.getStatus(3));
+        assertEquals(DAGExecutor.TaskStatus.SUCCEEDED, report.getStatus(4));
+        assertEquals("task 1 broke", report.getFailure(1).getMessage());
+        assertEquals("ok3", report.getResult(3));
+        assertNull(report.getTaskMetrics(2));
+        assertFalse(report.isSuccessful());
+    }
+
+    // Test cancellation interrupts a running task and settles the rest of the chain
+    @Test
+    public void testCancel() throws Exception {
+        CSRGraph chain = CSRGraph.fromGraph(BenchmarkGraphs.chain(1_000, 1, 1L));
+        CountDownLatch entered = new CountDownLatch(1);
+        DAGExecutor.Execution execution = new DAGExecutor(chain).start(vertex -> {
+            if (vertex == 0) {
+                entered.countDown();
+                Thread.sleep(60_000);
+            }
+            return null;
+        });
+
+        assertTrue(entered.await(10, TimeUnit.SECONDS));
+        execution.cancel();
+        DAGExecutor.Report report = execution.await(10, TimeUnit.SECONDS);
+
+        assertNotNull(report);
+        assertTrue(execution.isDone());
+        assertEquals(1_000, report.count(DAGExecutor.TaskStatus.CANCELLED));
+    }
+
+    // Test interrupting a caller blocked in run() cancels the tasks and keeps the interrupt flag
+    @Test
+    public void testRunInterrupted() throws Exception {
+        CSRGraph chain = CSRGraph.fromGraph(BenchmarkGraphs.chain(100, 1, 1L));
+        CountDownLatch entered = new CountDownLatch(1);
+        CountDownLatch taskInterrupted = new CountDownLatch(1);
+        AtomicBoolean callerInterrupted = new AtomicBoolean();
+        AtomicBoolean flagKept = new AtomicBoolean();
+        Thread caller = new Thread(() -> {
+            try {
+                new DAGExecutor(chain).run(vertex -> {
+                    entered.countDown();
+                    try {
+                        Thread.sleep(60_000);
+                    } catch (InterruptedException e) {
+                        taskInterrupted.countDown();
+                        throw e;
+                    }
+                    return null;
+                });
+            } catch (InterruptedException e) {
+                callerInterrupted.set(true);
+                flagKept.set(Thread.currentThread().isInterrupted());
+            }
+        });
+        caller.start();
+
+        assertTrue(entered.await(10, TimeUnit.SECONDS));
+        caller.interrupt();
+        caller.join(10_000);
+
+        assertFalse(caller.isAlive());
+        assertTrue(callerInterrupted.get());
+        assertTrue(flagKept.get());
+        assertTrue(taskInterrupted.await(10, TimeUnit.SECONDS));
+    }
+
+    // Test cyclic graphs are rejected
+    @Test(expected = IllegalArgumentException.class)
+    public void testCycleRejected() {
+        Graph graph = new Graph(2, true);
+        graph.addEdge(0, 1, 1);
+        graph.addEdge(1, 0, 1);
+        new DAGExecutor(graph);
+    }
+}
@@ -108,4 +108,237 @@ public class DAGTest {
         assertTrue(result.getMetrics().getOperations() > 0);
         assertTrue(result.getMetrics().getElapsedNanos() > 0);
     }
-}
\ No newline at end of file
+
+    // Test critical path endpoints when the longest path does not start at vertex 0
+    @Test
+    public void testCriticalPathStartsAnywhere() {
+        Graph graph = new Graph(5, true);
+        graph.addEdge(0, 1, 1);
+        graph.addEdge(2, 3, 4);
+        graph.addEdge(3, 4, 5);
+        graph.addEdge(1, 4, 2);
+
+        DAG dag = new DAG(graph);
+        DAG.CriticalPathResult result = dag.findCriticalPath();
+
+        assertEquals(9, result.getTotalLength());
+        assertEquals(2, result.getStart());
+        assertEquals(4, result.getEnd());
+        assertEquals(List.of(2, 3, 4), result.getPath());
+    }
+
+    // Test single-sweep critical path against the longest path from every source
+    @Test
+    public void testCriticalPathMatchesAllSources() {
+        java.util.Random random = new java.util.Random(7);
+        Graph graph = new Graph(40, true);
+        for (int u = 0; u < 40; u++) {
+            for (int v = u + 1; v < 40; v++) {
+                if (random.nextInt(6) == 0) {
+                    graph.addEdge(u, v, 1 + random.nextInt(9));
+                }
+            }
+        }
+
+        DAG dag = new DAG(graph);
+        int expected = Integer.MIN_VALUE;
+        for (int src = 0; src < 40; src++) {
+            for (int d : dag.computeLongestPaths(src).getDistances()) {
+                expected = Math.max(expected, d);
+            }
+        }
+
+        DAG.CriticalPathResult result = dag.findCriticalPath();
+        assertEquals(expected, result.getTotalLength());
+        assertEquals(Integer.valueOf(result.getStart()), result.getPath().get(0));
+        assertEquals(Integer.valueOf(result.getEnd()), result.getPath().get(result.getPath().size() - 1));
+    }
+
+    // Test workspace queries match allocating queries and survive reuse across sources
+    @Test
+    public void testWorkspaceMatchesPathResult() {
+        java.util.Random random = new java.util.Random(3);
+        Graph graph = new Graph(60, true);
+        for (int u = 0; u < 60; u++) {
+            for (int v = u + 1; v < 60; v++) {
+                if (random.nextInt(8) == 0) {
+                    graph.addEdge(u, v, 1 + random.nextInt(9));
+                }
+            }
+        }
+
+        DAG dag = new DAG(graph);
+        DAG.Workspace workspace = new DAG.Workspace(4);
+        for (int src = 0; src < 60; src++) {
+            DAG.PathResult shortest = dag.computeShortestPaths(src);
+            dag.computeShortestPaths(src, workspace);
+            for (int v = 0; v < 60; v++) {
+                assertEquals(shortest.getDistances()[v], workspace.getDistance(v));
+                assertEquals(shortest.getParents()[v], workspace.getParent(v));
+            }
+            assertEquals(shortest.getMetrics().getOperations(), workspace.getMetrics().getOperations());
+
+            DAG.PathResult longest = dag.computeLongestPaths(src);
+            DAG.PathResult copied = dag.computeLongestPaths(src, workspace).toPathResult(60);
+            assertArrayEquals(longest.getDistances(), copied.getDistances());
+            assertArrayEquals(longest.getParents(), copied.getParents());
+            assertEquals(workspace.getMetrics().getOperations(), copied.getMetrics().getOperations());
+            assertEquals(workspace.getMetrics().getElapsedNanos(), copied.getMetrics().getElapsedNanos());
+            assertTrue(copied.isLongest());
+        }
+    }
+
+    // Test a per-thread workspace is reused across graphs of different sizes
+    @Test
+    public void testWorkspaceAcrossGraphs() {
+        Graph small = new Graph(3, true);
+        small.addEdge(0, 1, 4);
+        small.addEdge(1, 2, 4);
+        Graph large = new Graph(10, true);
+        large.addEdge(5, 9, 2);
+
+        DAG.Workspace workspace = DAG.Workspace.forCurrentThread();
+        assertSame(workspace, DAG.Workspace.forCurrentThread());
+
+        new DAG(large).computeShortestPaths(5, workspace);
+        assertEquals(2, workspace.getDistance(9));
+        assertEquals(Integer.MAX_VALUE, workspace.getDistance(0));
+
+        new DAG(small).computeShortestPaths(0, workspace);
+        assertEquals(8, workspace.getDistance(2));
+        assertEquals(1, workspace.getParent(2));
+
+        new DAG(large).computeLongestPaths(0, workspace);
+        assertEquals(Integer.MIN_VALUE, workspace.getDistance(9));
+        assertEquals(-1, workspace.getParent(9));
+        assertEquals(0, workspace.getDistance(0));
+    }
+
+    // Test a supplied topological order gives the same distances as the cached DFS order
+    @Test
+    public void testPrecomputedOrder() {
+        Graph graph = new Graph(5, true);
+        graph.addEdge(0, 1, 2);
+        graph.addEdge(0, 2, 7);
+        graph.addEdge(1, 2, 3);
+        graph.addEdge(2, 3, 1);
+        graph.addEdge(4, 3, 9);
+
+        DAG own = new DAG(graph);
+        DAG supplied = new DAG(graph, List.of(4, 0, 1, 2, 3));
+
+        assertSame(own.getTopologicalOrder(), own.getTopologicalOrder());
+        assertArrayEquals(new int[]{4, 0, 1, 2, 3}, supplied.getTopologicalOrder());
+        assertArrayEquals(own.computeShortestPaths(0).getDistances(), supplied.computeShortestPaths(0).getDistances());
+        assertArrayEquals(own.computeLongestPaths(0).getDistances(), supplied.computeLongestPaths(0).getDistances());
+        assertEquals(own.findCriticalPath().getTotalLength(), supplied.findCriticalPath().getTotalLength());
+    }
+
+    // Test orders that are not a permutation of the vertices are rejected
+    @Test(expected = IllegalArgumentException.class)
+    public void testInvalidPrecomputedOrder() {
+        new DAG(new Graph(3, true), new int[]{0, 1, 1});
+    }
+
+    // Test reachable-only queries match full queries and visit only the reachable region
+    @Test
+    public void testReachableOnlyQueries() {
+        java.util.Random random = new java.util.Random(5);
+        Graph graph = new Graph(80, true);
+        for (int u = 0; u < 80; u++) {
+            for (int v = u + 1; v < 80; v++) {
+                if (random.nextInt(20) == 0) {
+                    graph.addEdge(u, v, 1 + random.nextInt(9));
+                }
+            }
+        }
+
+        DAG dag = new DAG(graph);
+        DAG.Workspace full = new DAG.Workspace(80);
+        DAG.Workspace pruned = new DAG.Workspace(80);
+        for (int src = 0; src < 80; src++) {
+            dag.computeShortestPaths(src, full);
+            dag.computeReachableShortestPaths(src, pruned);
+            int reachable = 0;
+            for (int v = 0; v < 80; v++) {
+                assertEquals(full.getDistance(v), pruned.getDistance(v));
+                assertEquals(full.getParent(v), pruned.getParent(v));
+                if (full.getDistance(v) != Integer.MAX_VALUE) reachable++;
+            }
+            assertEquals(reachable, pruned.getReachedCount());
+            assertEquals(src, pruned.getReached(0));
+            assertEquals(full.getMetrics().getOperations(), pruned.getMetrics().getOperations());
+
+            dag.computeLongestPaths(src, full);
+            dag.computeReachableLongestPaths(src, pruned);
+            for (int v = 0; v < 80; v++) {
+                assertEquals(full.getDistance(v), pruned.getDistance(v));
+            }
+        }
+    }
+
+    // Test unit weights with shuffled ids: every sweep picks the smallest predecessor among equal-cost paths
+    @Test
+    public void testEqualCostParentsAgree() {
+        java.util.Random random = new java.util.Random(11);
+        for (int trial = 0; trial < 50; trial++) {
+            int n = 40;
+            int[] id = new int[n];
+            for (int i = 0; i < n; i++) id[i] = i;
+            for (int i = n - 1; i > 0; i--) {
+                int j = random.nextInt(i + 1);
+                int t = id[i]; id[i] = id[j]; id[j] = t;
+            }
+            Graph graph = new Graph(n, true);
+            for (int i = 0; i < n; i++) {
+                for (int j = i + 1; j < n; j++) {
+                    if (random.nextInt(6) == 0) {
+                        graph.addEdge(id[i], id[j], 1);
+                    }
+                }
+            }
+
+            DAG dag = new DAG(graph);
+            DAG.Workspace full = new DAG.Workspace(n);
+            DAG.Workspace pruned = new DAG.Workspace(n);
+            for (int src = 0; src < n; src++) {
+                DAG.PathResult shortest = dag.computeShortestPaths(src);
+                dag.computeShortestPaths(src, full);
+                dag.computeReachableShortestPaths(src, pruned);
+                assertSameParents(shortest, full, pruned, n);
+
+                DAG.PathResult longest = dag.computeLongestPaths(src);
+                dag.computeLongestPaths(src, full);
+                dag.computeReachableLongestPaths(src, pruned);
+                assertSameParents(longest, full, pruned, n);
+            }
+        }
+    }
+
+    private static void assertSameParents(DAG.PathResult result, DAG.Workspace full, DAG.Workspace pruned, int n) {
+        for (int v = 0; v < n; v++) {
+            assertEquals(result.getDistances()[v], full.getDistance(v));
+            assertEquals(result.getDistances()[v], pruned.getDistance(v));
+            assertEquals(result.getParents()[v], full.getParent(v));
+            assertEquals(result.getParents()[v], pruned.getParent(v));
+        }
+    }
+
+    // Test reachable vertices are listed in topological order
+    @Test
+    public void testReachedOrder() {
+        Graph graph = new Graph(6, true);
+        graph.addEdge(0, 5, 1);
+        graph.addEdge(2, 4, 1);
+        graph.addEdge(2, 3, 1);
+        graph.addEdge(3, 4, 1);
+
+        DAG.Workspace workspace = new DAG(graph).computeReachableShortestPaths(2, new DAG.Workspace(0));
+
+        assertEquals(3, workspace.getReachedCount());
+        assertEquals(2, workspace.getReached(0));
+        assertEquals(3, workspace.getReached(1));
+        assertEquals(4, workspace.getReached(2));
+        assertEquals(Integer.MAX_VALUE, workspace.getDistance(5));
+    }
+}
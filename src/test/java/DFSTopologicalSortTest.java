@@ -147,4 +147,63 @@ public class DFSTopologicalSortTest {
         assertTrue(result.getMetrics().getOperations() > 0);
         assertTrue(result.getMetrics().getElapsedNanos() > 0);
     }
-}
\ No newline at end of file
+
+    // Test cyclic graph is reported as not a DAG
+    @Test
+    public void testCyclicGraph() {
+        Graph graph = new Graph(5, true);
+        graph.addEdge(0, 1, 1);
+        graph.addEdge(1, 2, 1);
+        graph.addEdge(2, 3, 1);
+        graph.addEdge(3, 1, 1);
+        graph.addEdge(3, 4, 1);
+
+        KahnTopologicalSort.TopoResult result = new DFSTopologicalSort(graph).performSort();
+
+        assertFalse(result.isDAG());
+        assertTrue(result.getOrder().isEmpty());
+        assertEquals(new KahnTopologicalSort(graph).computeTopoOrder().isDAG(), result.isDAG());
+    }
+
+    // Test self-loop is a cycle
+    @Test
+    public void testSelfLoop() {
+        Graph graph = new Graph(2, true);
+        graph.addEdge(0, 1, 1);
+        graph.addEdge(1, 1, 1);
+
+        assertFalse(new DFSTopologicalSort(graph).performSort().isDAG());
+    }
+
+    // Test cross edges to finished vertices are not cycles
+    @Test
+    public void testCrossEdges() {
+        Graph graph = new Graph(4, true);
+        graph.addEdge(0, 1, 1);
+        graph.addEdge(0, 2, 1);
+        graph.addEdge(2, 1, 1);
+        graph.addEdge(3, 1, 1);
+
+        KahnTopologicalSort.TopoResult result = new DFSTopologicalSort(graph).performSort();
+
+        assertTrue(result.isDAG());
+        assertEquals(List.of(3, 0, 2, 1), result.getOrder());
+    }
+
+    // Test long chain does not need a deep thread stack
+    @Test
+    public void testLongChain() {
+        int n = 2_000_000;
+        Graph graph = new Graph(n, true);
+        for (int i = 0; i + 1 < n; i++) {
+            graph.addEdge(i, i + 1, 1);
+        }
+
+        KahnTopologicalSort.TopoResult result = new DFSTopologicalSort(graph).performSort();
+
+        assertTrue(result.isDAG());
+        assertEquals(n, result.getOrder().size());
+        assertEquals(0, (int) result.getOrder().get(0));
+        assertEquals(n - 1, (int) result.getOrder().get(n - 1));
+    }
+}
@@ -0,0 +1,95 @@
+import com.algorithms.ComponentTS;
+import com.algorithms.CondensationGraph;
+import com.algorithms.FusedComponentAnalyzer;
+import com.algorithms.SCC;
+import com.model.Graph;
+import org.junit.Test;
+import static org.junit.Assert.*;
+import java.util.List;
+import java.util.Random;
+
+public class FusedComponentAnalyzerTest {
+
+    private Graph randomGraph(int n, int edges, long seed) {
+        Random random = new Random(seed);
+        Graph graph = new Graph(n, true);
+        for (int i = 0; i < edges; i++) {
+            graph.addEdge(random.nextInt(n), random.nextInt(n), 1 + random.nextInt(9));
+        }
+        return graph;
+    }
+
+    // Test the fused condensation is identical to the step-by-step one
+    @Test
+    public void testMatchesSeparateSteps() {
+        for (long seed = 1; seed <= 5; seed++) {
+            Graph graph = randomGraph(200, 320, seed);
+
+            FusedComponentAnalyzer.Result fused = new FusedComponentAnalyzer(graph).analyze();
+            List<List<Integer>> components = new SCC(graph).computeSCCs().getComponents();
+            CondensationGraph expected = new CondensationGraph(graph, components);
+            CondensationGraph actual = fused.getCondensation();
+
+            assertEquals(components, fused.getSCCResult().getComponents());
+            assertEquals(expected.getComponentCount(), actual.getComponentCount());
+            for (int v = 0; v < graph.getNumVertices(); v++) {
+                assertEquals(expected.getComponentId(v), actual.getComponentId(v));
+            }
+            Graph e = expected.getCondensationGraph();
+            Graph a = actual.getCondensationGraph();
+            for (int c = 0; c < e.getNumVertices(); c++) {
+                assertEquals(e.outDegree(c), a.outDegree(c));
+                for (int i = 0; i < e.outDegree(c); i++) {
+                    assertEquals(e.target(c, i), a.target(c, i));
+                    assertEquals(e.weight(c, i), a.weight(c, i));
+                }
+            }
+        }
+    }
+
+    // Test the component order is a valid topological order
+    @Test
+    public void testComponentOrderIsTopological() {
+        Graph graph = randomGraph(300, 450, 9);
+
+        FusedComponentAnalyzer.Result fused = new FusedComponentAnalyzer(graph).analyze();
+        ComponentTS.ComponentTopoResult topo = fused.getTopoResult();
+        Graph condensed = fused.getCondensation().getCondensationGraph();
+
+        assertTrue(topo.isDAG());
+        assertEquals(condensed.getNumVertices(), topo.getComponentOrder().size());
+        assertEquals(300, topo.getTaskOrder().size());
+        int[] position = new int[condensed.getNumVertices()];
+        for (int i = 0; i < position.length; i++) {
+            position[topo.getComponentOrder().get(i)] = i;
+        }
+        for (int c = 0; c < condensed.getNumVertices(); c++) {
+            for (int i = 0; i < condensed.outDegree(c); i++) {
+                assertTrue(position[c] < position[condensed.target(c, i)]);
+            }
+        }
+    }
+
+    // Test a cycle with a tail
+    @Test
+    public void testSimpleGraph() {
+        Graph graph = new Graph(5, true);
+        graph.addEdge(0, 1, 1);
+        graph.addEdge(1, 2, 1);
+        graph.addEdge(2, 0, 1);
+        graph.addEdge(2, 3, 4);
+        graph.addEdge(0, 3, 2);
+        graph.addEdge(3, 4, 1);
+
+        FusedComponentAnalyzer.Result fused = new FusedComponentAnalyzer(graph).analyze();
+        CondensationGraph condensation = fused.getCondensation();
+
+        assertEquals(3, condensation.getComponentCount());
+        int cycle = condensation.getComponentId(0);
+        assertEquals(1, condensation.getCondensationGraph().outDegree(cycle));
+        // first edge seen from the smallest vertex of the cycle
+        assertEquals(2, condensation.getCondensationGraph().weight(cycle, 0));
+        assertEquals(List.of(cycle, condensation.getComponentId(3), condensation.getComponentId(4)),
+                fused.getTopoResult().getComponentOrder());
+    }
+}
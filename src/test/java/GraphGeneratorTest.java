@@ -0,0 +1,138 @@
+import com.algorithms.CondensationGraph;
+import com.algorithms.SCC;
+import com.model.Graph;
+import com.model.MappedGraph;
+import com.utils.GraphGenerator;
+import com.utils.GraphLoader;
+import com.utils.GraphSnapshot;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import static org.junit.Assert.*;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+public class GraphGeneratorTest {
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private static GraphGenerator generator(long seed) {
+        return new GraphGenerator.Builder()
+                .vertices(2000)
+                .edges(10000)
+                .sccSizes(GraphGenerator.SizeDistribution.UNIFORM, 1, 12)
+                .depth(25)
+                .weights(3, 9)
+                .seed(seed)
+                .build();
+    }
+
+    // Test the generated JSON has the requested SCC structure and condensation depth
+    @Test
+    public void testStructure() throws IOException {
+        GraphGenerator generator = generator(7);
+        Path file = folder.newFile("gen.json").toPath();
+        long edges = generator.writeJson(file);
+
+        GraphLoader.GraphData data = GraphLoader.loadFromFile(file.toString());
+        Graph graph = data.graph;
+        assertEquals(2000, graph.getNumVertices());
+        assertEquals(generator.getSourceVertex(), data.sourceVertex);
+        assertEquals("edge", data.weightType);
+        assertTrue(edges > 9000 && edges <= 10000);
+
+        int total = 0;
+        for (int u = 0; u < graph.getNumVertices(); u++) {
+            for (int i = 0; i < graph.outDegree(u); i++) {
+                assertTrue(graph.weight(u, i) >= 3 && graph.weight(u, i) <= 9);
+                assertNotEquals(u, graph.target(u, i));
+            }
+            total += graph.outDegree(u);
+        }
+        assertEquals(edges, total);
+
+        SCC.SCCResult result = new SCC(graph).computeSCCs();
+        List<List<Integer>> components = result.getComponents();
+        assertEquals(generator.getNumSccs(), components.size());
+        for (List<Integer> component : components) {
+            assertTrue(component.size() <= 12);
+        }
+
+        CondensationGraph condensation = new CondensationGraph(graph, components);
+        assertTrue(condensation.isDAG());
+        assertEquals(25, longestChain(condensation.getCondensationGraph()));
+    }
+
+    // Test the same seed gives identical output and a different seed does not
+    @Test
+    public void testDeterminism() throws IOException {
+        Path a = folder.newFile("a.json").toPath();
+        Path b = folder.newFile("b.json").toPath();
+        Path c = folder.newFile("c.json").toPath();
+        generator(11).writeJson(a);
+        generator(11).writeJson(b);
+        generator(12).writeJson(c);
+
+        assertArrayEquals(Files.readAllBytes(a), Files.readAllBytes(b));
+        assertFalse(java.util.Arrays.equals(Files.readAllBytes(a), Files.readAllBytes(c)));
+    }
+
+    // Test the binary snapshot holds the same graph as the JSON output
+    @Test
+    public void testSnapshotMatchesJson() throws IOException {
+        GraphGenerator generator = generator(5);
+        Path json = folder.newFile("gen.json").toPath();
+        Path bin = folder.newFile("gen.bin").toPath();
+        long jsonEdges = generator.writeJson(json);
+        long binEdges = generator.writeSnapshot(bin);
+        assertEquals(jsonEdges, binEdges);
+
+        Graph graph = GraphLoader.loadFromFile(json.toString()).graph;
+        GraphSnapshot.SnapshotData snapshot = GraphSnapshot.open(bin);
+        MappedGraph mapped = snapshot.graph;
+        assertEquals(generator.getSourceVertex(), snapshot.sourceVertex);
+        assertEquals(binEdges, mapped.getNumEdges());
+        for (int u = 0; u < graph.getNumVertices(); u++) {
+            assertEquals(graph.outDegree(u), mapped.outDegree(u));
+            for (int i = 0; i < graph.outDegree(u); i++) {
+                assertEquals(graph.target(u, i), mapped.target(u, i));
+                assertEquals(graph.weight(u, i), mapped.weight(u, i));
+            }
+        }
+    }
+
+    // Test a single vertex graph and depth larger than the SCC count
+    @Test
+    public void testDegenerateSizes() throws IOException {
+        GraphGenerator generator = new GraphGenerator.Builder()
+                .vertices(1).edges(5).depth(10).build();
+        Path file = folder.newFile().toPath();
+
+        assertEquals(0, generator.writeJson(file));
+        assertEquals(1, generator.getDepth());
+        assertEquals(1, GraphLoader.loadFromFile(file.toString()).graph.getNumVertices());
+    }
+
+    // Longest path counted in vertices, condensation vertices are numbered arbitrarily
+    private static int longestChain(Graph dag) {
+        int n = dag.getNumVertices();
+        int[] memo = new int[n];
+        int best = 0;
+        for (int v = 0; v < n; v++) {
+            best = Math.max(best, chain(dag, v, memo));
+        }
+        return best;
+    }
+
+    private static int chain(Graph dag, int v, int[] memo) {
+        if (memo[v] != 0) return memo[v];
+        int best = 0;
+        for (int i = 0; i < dag.outDegree(v); i++) {
+            best = Math.max(best, chain(dag, dag.target(v, i), memo));
+        }
+        return memo[v] = best + 1;
+    }
+}
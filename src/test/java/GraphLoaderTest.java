@@ -0,0 +1,80 @@
+import com.model.CSRGraph;
+import com.model.Graph;
+import com.utils.GraphLoader;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import static org.junit.Assert.*;
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+
+public class GraphLoaderTest {
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private String write(String json) throws IOException {
+        File file = folder.newFile();
+        Files.write(file.toPath(), json.getBytes(StandardCharsets.UTF_8));
+        return file.getPath();
+    }
+
+    // Test loading a bundled dataset
+    @Test
+    public void testLoadDataset() throws IOException {
+        GraphLoader.GraphData data = GraphLoader.loadFromFile("data/small_1.json");
+
+        assertEquals(7, data.graph.getNumVertices());
+        assertTrue(data.graph.isDirected());
+        assertEquals(0, data.sourceVertex);
+        assertEquals("edge", data.weightType);
+        assertEquals(2, data.graph.getEdgesFrom(2).size());
+    }
+
+    // Test keys in arbitrary order and unknown keys are skipped
+    @Test
+    public void testKeysInAnyOrder() throws IOException {
+        String path = write("{\"edges\":[{\"w\":3,\"v\":1,\"u\":0},{\"u\":1,\"v\":2,\"w\":4,\"x\":[1]}],"
+                + "\"weight_model\":\"node\",\"source\":1,\"meta\":{\"a\":1},\"n\":3,\"directed\":true}");
+
+        GraphLoader.GraphData data = GraphLoader.loadFromFile(path);
+
+        assertEquals(3, data.graph.getNumVertices());
+        assertEquals(1, data.sourceVertex);
+        assertEquals("node", data.graph.getWeightType());
+        assertEquals(1, data.graph.getEdgesFrom(0).get(0).getDestination());
+        assertEquals(3, data.graph.getEdgesFrom(0).get(0).getWeight());
+        assertEquals(4, data.graph.getEdgesFrom(1).get(0).getWeight());
+    }
+
+    // Test the CSR loader produces the same adjacency as the list loader
+    @Test
+    public void testLoadCSRMatches() throws IOException {
+        Graph graph = GraphLoader.loadFromFile("data/medium_1.json").graph;
+        GraphLoader.CSRGraphData data = GraphLoader.loadCSRFromFile("data/medium_1.json");
+        CSRGraph csr = data.graph;
+
+        assertEquals(graph.getNumVertices(), csr.getNumVertices());
+        for (int u = 0; u < graph.getNumVertices(); u++) {
+            assertEquals(graph.outDegree(u), csr.outDegree(u));
+            for (int i = 0; i < graph.outDegree(u); i++) {
+                assertEquals(graph.target(u, i), csr.target(u, i));
+                assertEquals(graph.weight(u, i), csr.weight(u, i));
+            }
+        }
+    }
+
+    // Test missing required fields are reported
+    @Test(expected = IOException.class)
+    public void testMissingVertexCount() throws IOException {
+        GraphLoader.loadFromFile(write("{\"directed\":true,\"edges\":[]}"));
+    }
+
+    // Test incomplete edges are reported
+    @Test(expected = IOException.class)
+    public void testIncompleteEdge() throws IOException {
+        GraphLoader.loadFromFile(write("{\"directed\":true,\"n\":2,\"edges\":[{\"u\":0,\"v\":1}]}"));
+    }
+}
@@ -0,0 +1,132 @@
+import com.algorithms.SCC;
+import com.model.Adjacency;
+import com.model.Graph;
+import com.model.MappedGraph;
+import com.utils.GraphLoader;
+import com.utils.GraphSnapshot;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import static org.junit.Assert.*;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+public class GraphSnapshotTest {
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    // Test a dataset survives a write/map round trip
+    @Test
+    public void testRoundTrip() throws IOException {
+        GraphLoader.GraphData data = GraphLoader.loadFromFile("data/large_1.json");
+        Path file = folder.newFile("large_1.bin").toPath();
+
+        GraphSnapshot.write(data.graph, data.sourceVertex, data.weightType, file);
+        GraphSnapshot.SnapshotData snapshot = GraphSnapshot.open(file);
+        MappedGraph mapped = snapshot.graph;
+
+        Graph graph = data.graph;
+        assertEquals(data.sourceVertex, snapshot.sourceVertex);
+        assertEquals(data.weightType, snapshot.weightType);
+        assertEquals(graph.isDirected(), mapped.isDirected());
+        assertEquals(graph.getNumVertices(), mapped.getNumVertices());
+        for (int u = 0; u < graph.getNumVertices(); u++) {
+            assertEquals(graph.outDegree(u), mapped.outDegree(u));
+            for (int i = 0; i < graph.outDegree(u); i++) {
+                assertEquals(graph.target(u, i), mapped.target(u, i));
+                assertEquals(graph.weight(u, i), mapped.weight(u, i));
+            }
+        }
+        assertEquals(new SCC(graph).computeSCCs().getComponents(),
+                new SCC(mapped).computeSCCs().getComponents());
+    }
+
+    // Test an empty graph with an odd-length weight model
+    @Test
+    public void testEmptyGraph() throws IOException {
+        Path file = folder.newFile().toPath();
+        GraphSnapshot.write(new Graph(3, false), 2, "nodes", file);
+
+        GraphSnapshot.SnapshotData snapshot = GraphSnapshot.open(file);
+
+        assertEquals(3, snapshot.graph.getNumVertices());
+        assertEquals(0, snapshot.graph.getNumEdges());
+        assertFalse(snapshot.graph.isDirected());
+        assertEquals("nodes", snapshot.weightType);
+        assertEquals(2, snapshot.sourceVertex);
+    }
+
+    // Test files that are not snapshots are rejected
+    @Test(expected = IOException.class)
+    public void testRejectsForeignFile() throws IOException {
+        Path file = folder.newFile().toPath();
+        Files.write(file, new byte[64]);
+        GraphSnapshot.open(file);
+    }
+
+    // Test graphs whose edge section would not fit one mapping are rejected
+    @Test(expected = IOException.class)
+    public void testRejectsUnmappableGraph() throws IOException {
+        Adjacency huge = new Adjacency() {
+            @Override
+            public int getNumVertices() {
+                return 2;
+            }
+
+            @Override
+            public boolean isDirected() {
+                return true;
+            }
+
+            @Override
+            public int outDegree(int vertex) {
+                return vertex == 0 ? (int) GraphSnapshot.MAX_SECTION_INTS + 1 : 0;
+            }
+
+            @Override
+            public int target(int vertex, int index) {
+                return 1;
+            }
+
+            @Override
+            public int weight(int vertex, int index) {
+                return 1;
+            }
+        };
+        GraphSnapshot.write(huge, 0, "edge", folder.newFile().toPath());
+    }
+
+    // Test a corrupt weight model length is rejected before anything is allocated
+    @Test
+    public void testRejectsCorruptWeightTypeLength() throws IOException {
+        Path file = folder.newFile().toPath();
+        GraphLoader.GraphData data = GraphLoader.loadFromFile("data/small_1.json");
+        GraphSnapshot.write(data.graph, data.sourceVertex, data.weightType, file);
+        byte[] bytes = Files.readAllBytes(file);
+        for (int length : new int[]{-1, Integer.MAX_VALUE}) {
+            ByteBuffer.wrap(bytes).order(ByteOrder.LITTLE_ENDIAN).putInt(28, length);
+            Files.write(file, bytes);
+            try {
+                GraphSnapshot.open(file);
+                fail("Expected IOException for length " + length);
+            } catch (IOException e) {
+                assertTrue(e.getMessage().contains("weight model length"));
+            }
+        }
+    }
+
+    // Test truncated files are rejected
+    @Test(expected = IOException.class)
+    public void testRejectsTruncatedFile() throws IOException {
+        Path file = folder.newFile().toPath();
+        GraphLoader.GraphData data = GraphLoader.loadFromFile("data/small_1.json");
+        GraphSnapshot.write(data.graph, data.sourceVertex, data.weightType, file);
+        byte[] bytes = Files.readAllBytes(file);
+        Files.write(file, java.util.Arrays.copyOf(bytes, bytes.length - 4));
+        GraphSnapshot.open(file);
+    }
+}
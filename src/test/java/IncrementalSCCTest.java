@@ -0,0 +1,138 @@
+import com.algorithms.CondensationBuilder;
+import com.algorithms.CondensationGraph;
+import com.algorithms.IncrementalSCC;
+import com.algorithms.SCC;
+import com.benchmark.BenchmarkGraphs;
+import com.model.Graph;
+import org.junit.Test;
+import static org.junit.Assert.*;
+import java.util.List;
+import java.util.Random;
+
+public class IncrementalSCCTest {
+
+    // Smallest vertex of each vertex's component, from a fresh decomposition
+    private static int[] canonical(Graph graph) {
+        int[] smallest = new int[graph.getNumVertices()];
+        for (List<Integer> component : new SCC(graph).computeSCCs().getComponents()) {
+            int min = Integer.MAX_VALUE;
+            for (int v : component) min = Math.min(min, v);
+            for (int v : component) smallest[v] = min;
+        }
+        return smallest;
+    }
+
+    private static void assertMatchesRecompute(Graph graph, IncrementalSCC incremental) {
+        int[] expected = canonical(graph);
+        CondensationGraph snapshot = incremental.toCondensationGraph();
+        assertEquals(snapshot.getComponentCount(), incremental.getComponentCount());
+        for (int v = 0; v < graph.getNumVertices(); v++) {
+            assertEquals(incremental.getComponentId(v), incremental.getComponentId(expected[v]));
+            assertEquals(snapshot.getComponentId(v), snapshot.getComponentId(expected[v]));
+        }
+        assertEquals(new SCC(graph).computeSCCs().getComponents().size(), incremental.getComponentCount());
+
+        // Snapshot components are numbered in topological order
+        Graph dag = snapshot.getCondensationGraph();
+        for (int u = 0; u < dag.getNumVertices(); u++) {
+            for (int i = 0; i < dag.outDegree(u); i++) {
+                assertTrue(u < dag.target(u, i));
+            }
+        }
+        for (int u = 0; u < graph.getNumVertices(); u++) {
+            for (int i = 0; i < graph.outDegree(u); i++) {
+                assertTrue(snapshot.getComponentId(u) <= snapshot.getComponentId(graph.target(u, i)));
+            }
+        }
+    }
+
+    // Test closing a chain into a cycle merges every component on it
+    @Test
+    public void testCloseChain() {
+        Graph graph = new Graph(5, true);
+        graph.addEdge(0, 1, 1);
+        graph.addEdge(1, 2, 1);
+        graph.addEdge(2, 3, 1);
+        graph.addEdge(3, 4, 1);
+        IncrementalSCC incremental = new IncrementalSCC(graph);
+
+        assertEquals(0, incremental.addEdge(0, 2, 5));
+        assertEquals(3, incremental.addEdge(3, 1, 2));
+        assertEquals(3, incremental.getComponentCount());
+        assertEquals(incremental.getComponentId(1), incremental.getComponentId(3));
+        assertEquals(0, incremental.addEdge(2, 1, 1));
+        assertEquals(3, incremental.addEdge(4, 0, 1));
+        assertEquals(1, incremental.getComponentCount());
+        assertMatchesRecompute(graph, incremental);
+    }
+
+    // Test a back edge without a cycle only reorders
+    @Test
+    public void testReorderWithoutCycle() {
+        Graph graph = new Graph(4, true);
+        graph.addEdge(0, 1, 1);
+        graph.addEdge(2, 3, 1);
+        IncrementalSCC incremental = new IncrementalSCC(graph);
+
+        assertEquals(0, incremental.addEdge(3, 0, 1));
+        assertEquals(0, incremental.addEdge(2, 1, 1));
+        assertEquals(4, incremental.getTopologicalOrder().length);
+        assertEquals(3, incremental.addEdge(1, 3, 1));
+        assertEquals(2, incremental.getComponentCount());
+        assertMatchesRecompute(graph, incremental);
+    }
+
+    // Test snapshot edges match a rebuilt condensation under the starting policy
+    @Test
+    public void testSnapshotKeepsWeightPolicy() {
+        for (CondensationBuilder.WeightPolicy policy : CondensationBuilder.WeightPolicy.values()) {
+            Graph graph = new Graph(4, true);
+            graph.addEdge(0, 1, 1);
+            graph.addEdge(1, 0, 1);
+            graph.addEdge(0, 2, 1);
+            graph.addEdge(1, 2, 9);
+            graph.addEdge(2, 3, 4);
+            CondensationGraph start = new CondensationGraph(graph,
+                    new SCC(graph).computeSCCs().getComponents(), policy);
+            IncrementalSCC incremental = new IncrementalSCC(graph, start);
+            incremental.addEdge(3, 2, 6);
+            incremental.addEdge(1, 3, 2);
+
+            CondensationGraph snapshot = incremental.toCondensationGraph();
+            CondensationGraph rebuilt = new CondensationGraph(graph, snapshot.getComponents(), policy);
+
+            assertEquals(policy, snapshot.getWeightPolicy());
+            assertSameEdges(rebuilt.getCondensationGraph(), snapshot.getCondensationGraph());
+            assertSameEdges(new CondensationGraph(graph, snapshot.getComponents()).getCondensationGraph(),
+                    snapshot.withWeightPolicy(CondensationBuilder.WeightPolicy.FIRST).getCondensationGraph());
+        }
+    }
+
+    private static void assertSameEdges(Graph expected, Graph actual) {
+        assertEquals(expected.getNumVertices(), actual.getNumVertices());
+        for (int u = 0; u < expected.getNumVertices(); u++) {
+            assertEquals(expected.outDegree(u), actual.outDegree(u));
+            for (int i = 0; i < expected.outDegree(u); i++) {
+                assertEquals(expected.target(u, i), actual.target(u, i));
+                assertEquals(expected.weight(u, i), actual.weight(u, i));
+            }
+        }
+    }
+
+    // Test random insertions against a full recompute
+    @Test
+    public void testRandomInsertions() {
+        Graph graph = BenchmarkGraphs.clusteredGraph(300, 3, 1, 600, 5, 5L);
+        IncrementalSCC incremental = new IncrementalSCC(graph);
+        Random random = new Random(8);
+
+        for (int batch = 0; batch < 12; batch++) {
+            for (int k = 0; k < 25; k++) {
+                incremental.addEdge(random.nextInt(900), random.nextInt(900), 1 + random.nextInt(5));
+            }
+            assertMatchesRecompute(graph, incremental);
+        }
+        assertTrue(incremental.getComponentCount() < 300);
+        assertTrue(incremental.getMetrics().getOperations() > 0);
+    }
+}
@@ -0,0 +1,133 @@
+import com.algorithms.CPM;
+import com.algorithms.CondensationBuilder;
+import com.algorithms.CondensationGraph;
+import com.algorithms.DAG;
+import com.algorithms.ListScheduler;
+import com.benchmark.BenchmarkGraphs;
+import com.model.Graph;
+import org.junit.Test;
+import static org.junit.Assert.*;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Random;
+
+public class ListSchedulerTest {
+
+    private static void assertValid(Graph dag, int[] durations, ListScheduler.Schedule schedule, int k) {
+        int c = dag.getNumVertices();
+        long total = Arrays.stream(durations).asLongStream().sum();
+        for (int u = 0; u < c; u++) {
+            assertTrue(schedule.getWorker(u) >= 0 && schedule.getWorker(u) < k);
+            assertTrue(schedule.getFinishTime(u) <= schedule.getMakespan());
+            for (int i = 0; i < dag.outDegree(u); i++) {
+                assertTrue(schedule.getStartTime(dag.target(u, i)) >= schedule.getStartTime(u) + dag.weight(u, i));
+            }
+        }
+        Integer[] byStart = new Integer[c];
+        for (int v = 0; v < c; v++) byStart[v] = v;
+        // Zero-duration tasks may share a start time with the next task on their worker
+        Arrays.sort(byStart, Comparator.comparingLong(schedule::getStartTime)
+                .thenComparingLong(schedule::getFinishTime));
+        long[] busyUntil = new long[k];
+        for (int v : byStart) {
+            int w = schedule.getWorker(v);
+            assertTrue(schedule.getStartTime(v) >= busyUntil[w]);
+            busyUntil[w] = schedule.getFinishTime(v);
+        }
+        assertTrue(schedule.getMakespan() >= (total + k - 1) / k);
+    }
+
+    // Test a small diamond with two workers, each lag covering its source's duration
+    @Test
+    public void testDiamondTwoWorkers() {
+        Graph graph = new Graph(4, true);
+        graph.addEdge(0, 1, 2);
+        graph.addEdge(0, 2, 2);
+        graph.addEdge(1, 3, 5);
+        graph.addEdge(2, 3, 3);
+        CondensationGraph condensation = TestGraphs.condense(graph);
+        int[] durations = new int[4];
+        for (int v = 0; v < 4; v++) {
+            durations[condensation.getComponentId(v)] = new int[]{2, 5, 3, 1}[v];
+        }
+
+        ListScheduler scheduler = new ListScheduler(condensation, durations);
+        ListScheduler.Schedule two = scheduler.schedule(2);
+        ListScheduler.Schedule one = scheduler.schedule(1);
+
+        assertEquals(8, scheduler.getCriticalPathLength());
+        assertEquals(8, two.getMakespan());
+        assertEquals(2, two.getVertexStartTime(1));
+        assertEquals(2, two.getVertexStartTime(2));
+        assertNotEquals(two.getVertexWorker(1), two.getVertexWorker(2));
+        assertEquals(7, two.getVertexStartTime(3));
+        assertEquals(11, one.getMakespan());
+        assertEquals(1.0, one.getUtilization(), 1e-9);
+        assertEquals(7, one.getVertexStartTime(2));
+    }
+
+    // Test with zero durations and k >= C the makespan is the longest path of the DAG
+    @Test
+    public void testUnlimitedWorkersReachLongestPath() {
+        Graph graph = new Graph(4, true);
+        graph.addEdge(0, 1, 1);
+        graph.addEdge(0, 2, 10);
+        graph.addEdge(1, 3, 10);
+
+        ListScheduler scheduler = new ListScheduler(TestGraphs.condense(graph), new int[4]);
+
+        assertEquals(11, new DAG(graph).findCriticalPath().getTotalLength());
+        assertEquals(11, scheduler.getCriticalPathLength());
+        for (int k : new int[]{4, 100}) {
+            assertEquals(11, scheduler.schedule(k).getMakespan());
+        }
+    }
+
+    // Test parallel edges merged into one component edge keep their largest lag
+    @Test
+    public void testMergedEdgesUseLargestLag() {
+        Graph graph = new Graph(3, true);
+        graph.addEdge(0, 1, 1);
+        graph.addEdge(1, 0, 1);
+        graph.addEdge(0, 2, 1);
+        graph.addEdge(1, 2, 5);
+
+        ListScheduler.Schedule schedule = new ListScheduler(TestGraphs.condense(graph), new int[2]).schedule(2);
+
+        assertEquals(5, schedule.getVertexStartTime(2));
+        assertEquals(5, schedule.getMakespan());
+    }
+
+    // Test schedules stay valid and unlimited workers start every task at its CPM earliest start
+    @Test
+    public void testRandomSchedules() {
+        Graph graph = BenchmarkGraphs.clusteredGraph(800, 3, 2, 2_400, 9, 13L);
+        CondensationGraph condensation = TestGraphs.condense(graph);
+        Graph dag = condensation.withWeightPolicy(CondensationBuilder.WeightPolicy.MAX).getCondensationGraph();
+        int c = dag.getNumVertices();
+        int[] durations = new Random(5).ints(c, 0, 10).toArray();
+        ListScheduler scheduler = new ListScheduler(condensation, durations);
+
+        for (int k : new int[]{1, 2, 3, 8, c}) {
+            ListScheduler.Schedule schedule = scheduler.schedule(k);
+            assertValid(dag, durations, schedule, k);
+            assertTrue(schedule.getMakespan() >= scheduler.getCriticalPathLength());
+        }
+
+        ListScheduler.Schedule unlimited = scheduler.schedule(c);
+        CPM.Schedule cpm = new CPM(condensation).computeSchedule();
+        for (int u = 0; u < c; u++) {
+            assertEquals(cpm.getEarliestStart(u), unlimited.getStartTime(u));
+        }
+        assertEquals(scheduler.getCriticalPathLength(), unlimited.getMakespan());
+        assertTrue(unlimited.getMetrics().getOperations() > 0);
+    }
+
+    // Test invalid inputs are rejected
+    @Test(expected = IllegalArgumentException.class)
+    public void testNoWorkers() {
+        Graph graph = new Graph(2, true);
+        graph.addEdge(0, 1, 3);
+        new ListScheduler(TestGraphs.condense(graph), new int[2]).schedule(0);
+    }
+}
@@ -0,0 +1,112 @@
+import com.algorithms.KahnTopologicalSort;
+import com.algorithms.ParallelKahnTopologicalSort;
+import com.benchmark.BenchmarkGraphs;
+import com.model.CSRGraph;
+import com.model.Graph;
+import org.junit.Test;
+import static org.junit.Assert.*;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+public class ParallelKahnTopologicalSortTest {
+
+    // Check every edge goes to a strictly deeper level and levels are tight
+    private void assertLevels(Graph graph, ParallelKahnTopologicalSort.LevelTopoResult result) {
+        int n = graph.getNumVertices();
+        int[] expected = new int[n];
+        for (int u : result.getOrderArray()) {
+            for (int i = 0; i < graph.outDegree(u); i++) {
+                int v = graph.target(u, i);
+                assertTrue(result.getLevel(u) < result.getLevel(v));
+                expected[v] = Math.max(expected[v], result.getLevel(u) + 1);
+            }
+        }
+        for (int v = 0; v < n; v++) {
+            assertEquals(expected[v], result.getLevel(v));
+        }
+    }
+
+    // Test levels of a diamond
+    @Test
+    public void testDiamond() {
+        Graph graph = new Graph(4, true);
+        graph.addEdge(0, 2, 1);
+        graph.addEdge(0, 1, 1);
+        graph.addEdge(1, 3, 1);
+        graph.addEdge(2, 3, 1);
+
+        ParallelKahnTopologicalSort.LevelTopoResult result = new ParallelKahnTopologicalSort(graph).computeTopoOrder();
+
+        assertTrue(result.isDAG());
+        assertEquals(List.of(0, 1, 2, 3), result.getOrder());
+        assertEquals(3, result.getLevelCount());
+        assertEquals(List.of(1, 2), result.getLevelVertices(1));
+        assertEquals(2, result.getLevel(3));
+    }
+
+    // Test cycle detection matches the sequential sort
+    @Test
+    public void testCycle() {
+        Graph graph = new Graph(5, true);
+        graph.addEdge(0, 1, 1);
+        graph.addEdge(1, 2, 1);
+        graph.addEdge(2, 1, 1);
+        graph.addEdge(2, 3, 1);
+        graph.addEdge(4, 3, 1);
+
+        ParallelKahnTopologicalSort.LevelTopoResult result = new ParallelKahnTopologicalSort(graph).computeTopoOrder();
+
+        assertFalse(result.isDAG());
+        assertEquals(List.of(0, 4), result.getOrder());
+        assertEquals(-1, result.getLevel(2));
+        assertEquals(-1, result.getLevel(3));
+        assertEquals(new KahnTopologicalSort(graph).computeTopoOrder().getOrder().size(), result.getOrder().size());
+    }
+
+    // Test wide layered DAG on several threads is valid and thread-count independent
+    @Test
+    public void testLargeDagDeterministic() {
+        Graph graph = BenchmarkGraphs.layeredDag(50_000, 5_000, 3, 5, 11L);
+        CSRGraph csr = CSRGraph.fromGraph(graph);
+
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            ParallelKahnTopologicalSort.LevelTopoResult parallel =
+                    new ParallelKahnTopologicalSort(csr, pool).computeTopoOrder();
+            ParallelKahnTopologicalSort.LevelTopoResult single =
+                    new ParallelKahnTopologicalSort(csr, new ForkJoinPool(1)).computeTopoOrder();
+
+            assertTrue(parallel.isDAG());
+            assertEquals(50_000, parallel.getOrder().size());
+            assertArrayEquals(single.getOrderArray(), parallel.getOrderArray());
+            assertLevels(graph, parallel);
+            assertEquals(new KahnTopologicalSort(graph).computeTopoOrder().getMetrics().getOperations(),
+                    parallel.getMetrics().getOperations());
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    // Test a long chain yields one vertex per level
+    @Test
+    public void testChain() {
+        Graph graph = BenchmarkGraphs.chain(100_000, 3, 1L);
+
+        ParallelKahnTopologicalSort.LevelTopoResult result = new ParallelKahnTopologicalSort(graph).computeTopoOrder();
+
+        assertTrue(result.isDAG());
+        assertEquals(100_000, result.getLevelCount());
+        assertLevels(graph, result);
+    }
+
+    // Test empty graph
+    @Test
+    public void testEmptyGraph() {
+        ParallelKahnTopologicalSort.LevelTopoResult result =
+                new ParallelKahnTopologicalSort(new Graph(0, true)).computeTopoOrder();
+
+        assertTrue(result.isDAG());
+        assertEquals(0, result.getLevelCount());
+        assertTrue(result.getOrder().isEmpty());
+    }
+}
@@ -0,0 +1,91 @@
+import com.algorithms.ParallelSCC;
+import com.algorithms.SCC;
+import com.benchmark.BenchmarkGraphs;
+import com.model.CSRGraph;
+import com.model.Graph;
+import org.junit.Test;
+import static org.junit.Assert.*;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+public class ParallelSCCTest {
+
+    // Sort Tarjan output the same way ParallelSCC orders its components
+    private List<List<Integer>> canonical(List<List<Integer>> components) {
+        List<List<Integer>> copy = new ArrayList<>(components);
+        copy.sort(Comparator.comparing(c -> c.get(0)));
+        return copy;
+    }
+
+    private Graph randomGraph(int n, int edges, long seed) {
+        Random random = new Random(seed);
+        Graph graph = new Graph(n, true);
+        for (int i = 0; i < edges; i++) {
+            graph.addEdge(random.nextInt(n), random.nextInt(n), 1 + random.nextInt(5));
+        }
+        return graph;
+    }
+
+    // Test simple cycle with a tail
+    @Test
+    public void testSmallGraph() {
+        Graph graph = new Graph(5, true);
+        graph.addEdge(0, 1, 1);
+        graph.addEdge(1, 2, 1);
+        graph.addEdge(2, 0, 1);
+        graph.addEdge(2, 3, 1);
+        graph.addEdge(3, 4, 1);
+
+        SCC.SCCResult result = new ParallelSCC(graph).computeSCCs();
+
+        assertEquals(List.of(List.of(0, 1, 2), List.of(3), List.of(4)), result.getComponents());
+    }
+
+    // Test self loops and empty graphs
+    @Test
+    public void testEdgeCases() {
+        Graph graph = new Graph(3, true);
+        graph.addEdge(1, 1, 1);
+        assertEquals(3, new ParallelSCC(graph).computeSCCs().getComponents().size());
+        assertTrue(new ParallelSCC(new Graph(0, true)).computeSCCs().getComponents().isEmpty());
+    }
+
+    // Test random graphs above the sequential threshold match Tarjan
+    @Test
+    public void testMatchesTarjan() {
+        for (long seed = 1; seed <= 3; seed++) {
+            Graph graph = randomGraph(20_000, 24_000, seed);
+            List<List<Integer>> expected = canonical(new SCC(graph).computeSCCs().getComponents());
+            List<List<Integer>> actual = new ParallelSCC(CSRGraph.fromGraph(graph)).computeSCCs().getComponents();
+            assertEquals(expected, actual);
+        }
+    }
+
+    // Test large clusters that go through the forward-backward split
+    @Test
+    public void testLargeClustersMatchTarjan() {
+        Graph graph = BenchmarkGraphs.clusteredGraph(12, 3_000, 1_000, 200, 5, 3L);
+        List<List<Integer>> expected = canonical(new SCC(graph).computeSCCs().getComponents());
+        List<List<Integer>> actual = new ParallelSCC(graph).computeSCCs().getComponents();
+        assertEquals(12, actual.size());
+        assertEquals(expected, actual);
+    }
+
+    // Test output does not depend on the thread count
+    @Test
+    public void testDeterministicAcrossPools() {
+        Graph graph = randomGraph(30_000, 45_000, 11);
+        ForkJoinPool single = new ForkJoinPool(1);
+        ForkJoinPool multi = new ForkJoinPool(4);
+        try {
+            assertEquals(new ParallelSCC(graph, single).computeSCCs().getComponents(),
+                    new ParallelSCC(graph, multi).computeSCCs().getComponents());
+        } finally {
+            single.shutdown();
+            multi.shutdown();
+        }
+    }
+}
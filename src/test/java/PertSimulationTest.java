@@ -0,0 +1,99 @@
+import com.algorithms.DAG;
+import com.algorithms.PertSimulation;
+import com.benchmark.BenchmarkGraphs;
+import com.model.CSRGraph;
+import com.model.Graph;
+import org.junit.Test;
+import static org.junit.Assert.*;
+import java.util.concurrent.ForkJoinPool;
+
+public class PertSimulationTest {
+
+    // Test fixed durations reproduce the deterministic critical path in every trial
+    @Test
+    public void testFixedDurations() {
+        CSRGraph graph = CSRGraph.fromGraph(BenchmarkGraphs.layeredDag(1_000, 40, 3, 9, 5L));
+        DAG dag = new DAG(graph);
+        DAG.CriticalPathResult critical = dag.findCriticalPath();
+
+        PertSimulation.SimulationResult result = new PertSimulation(dag,
+                PertSimulation.Distribution.TRIANGULAR, 1.0, 1.0).run(50, 1L);
+
+        assertEquals(50, result.getTrials());
+        assertEquals(critical.getTotalLength(), result.getMin(), 1e-9);
+        assertEquals(critical.getTotalLength(), result.getMax(), 1e-9);
+        assertEquals(1.0, result.getVertexCriticality(critical.getEnd()), 1e-9);
+        assertEquals(0.0, result.getStdDev(), 1e-9);
+    }
+
+    // Test a chain's makespan stays within the summed bounds and every edge is always critical
+    @Test
+    public void testChainBoundsAndCriticality() {
+        Graph graph = new Graph(4, true);
+        graph.addEdge(0, 1, 10);
+        graph.addEdge(1, 2, 20);
+        graph.addEdge(2, 3, 30);
+
+        for (PertSimulation.Distribution distribution : PertSimulation.Distribution.values()) {
+            PertSimulation.SimulationResult result = new PertSimulation(new DAG(graph),
+                    distribution, 0.5, 2.0).run(2_000, 7L);
+
+            assertTrue(result.getMin() >= 30.0);
+            assertTrue(result.getMax() <= 120.0);
+            assertTrue(result.getPercentile(10) <= result.getPercentile(50));
+            assertTrue(result.getPercentile(50) <= result.getPercentile(90));
+            assertTrue(result.getMean() > 60.0);
+            for (int v = 0; v < 3; v++) {
+                assertEquals(1.0, result.getEdgeCriticality(v, 0), 1e-9);
+            }
+        }
+    }
+
+    // Test results do not depend on the pool size
+    @Test
+    public void testDeterministicAcrossPools() {
+        CSRGraph graph = CSRGraph.fromGraph(BenchmarkGraphs.randomDag(500, 2_000, 9, 3L));
+        DAG dag = new DAG(graph);
+        ForkJoinPool pool = new ForkJoinPool(3);
+        ForkJoinPool single = new ForkJoinPool(1);
+        try {
+            PertSimulation.SimulationResult a = new PertSimulation(dag,
+                    PertSimulation.Distribution.PERT_BETA, 0.7, 1.6, pool).run(300, 9L);
+            PertSimulation.SimulationResult b = new PertSimulation(dag,
+                    PertSimulation.Distribution.PERT_BETA, 0.7, 1.6, single).run(300, 9L);
+
+            assertEquals(a.getMean(), b.getMean(), 0.0);
+            assertEquals(a.getPercentile(95), b.getPercentile(95), 0.0);
+            for (int v = 0; v < 500; v++) {
+                assertEquals(a.getVertexCriticality(v), b.getVertexCriticality(v), 0.0);
+            }
+        } finally {
+            pool.shutdown();
+            single.shutdown();
+        }
+    }
+
+    // Test adjacent trials draw uncorrelated duration factors
+    @Test
+    public void testAdjacentTrialsUncorrelated() {
+        Graph chain = new Graph(21, true);
+        for (int v = 0; v < 20; v++) {
+            chain.addEdge(v, v + 1, 100);
+        }
+        for (long seed : new long[]{0L, 42L}) {
+            PertSimulation.SimulationResult result = new PertSimulation(new DAG(chain),
+                    PertSimulation.Distribution.TRIANGULAR, 0.5, 2.0).run(5_000, seed);
+
+            double mean = result.getMean();
+            double covariance = 0;
+            double variance = 0;
+            for (int t = 0; t + 1 < result.getTrials(); t++) {
+                covariance += (result.getTrialMakespan(t) - mean) * (result.getTrialMakespan(t + 1) - mean);
+            }
+            for (int t = 0; t < result.getTrials(); t++) {
+                variance += (result.getTrialMakespan(t) - mean) * (result.getTrialMakespan(t) - mean);
+            }
+            assertTrue("seed " + seed, Math.abs(covariance / variance) < 0.05);
+        }
+    }
+}
@@ -0,0 +1,128 @@
+import com.algorithms.CondensationGraph;
+import com.algorithms.GrailIndex;
+import com.algorithms.ReachabilityIndex;
+import com.algorithms.TransitiveClosureIndex;
+import com.benchmark.BenchmarkGraphs;
+import com.model.Graph;
+import org.junit.Test;
+import static org.junit.Assert.*;
+import java.lang.ref.WeakReference;
+import java.util.ArrayDeque;
+import java.util.Random;
+
+public class ReachabilityIndexTest {
+
+    // Plain BFS over the original graph
+    private static boolean[] bfs(Graph graph, int source) {
+        boolean[] seen = new boolean[graph.getNumVertices()];
+        ArrayDeque<Integer> queue = new ArrayDeque<>();
+        seen[source] = true;
+        queue.add(source);
+        while (!queue.isEmpty()) {
+            int u = queue.poll();
+            for (int i = 0; i < graph.outDegree(u); i++) {
+                int v = graph.target(u, i);
+                if (!seen[v]) {
+                    seen[v] = true;
+                    queue.add(v);
+                }
+            }
+        }
+        return seen;
+    }
+
+    private static void assertMatchesBfs(Graph graph, ReachabilityIndex index, int samples, long seed) {
+        Random random = new Random(seed);
+        int n = graph.getNumVertices();
+        for (int s = 0; s < samples; s++) {
+            int from = random.nextInt(n);
+            boolean[] expected = bfs(graph, from);
+            for (int to = 0; to < n; to++) {
+                assertEquals(from + " -> " + to, expected[to], index.reaches(from, to));
+            }
+        }
+    }
+
+    // Test closure on a small graph with a cycle
+    @Test
+    public void testClosureSmall() {
+        Graph graph = new Graph(6, true);
+        graph.addEdge(0, 1, 1);
+        graph.addEdge(1, 2, 1);
+        graph.addEdge(2, 1, 1);
+        graph.addEdge(2, 3, 1);
+        graph.addEdge(4, 5, 1);
+
+        TransitiveClosureIndex index = new TransitiveClosureIndex(TestGraphs.condense(graph));
+
+        assertTrue(index.reaches(0, 3));
+        assertTrue(index.reaches(2, 1));
+        assertTrue(index.reaches(5, 5));
+        assertFalse(index.reaches(3, 0));
+        assertFalse(index.reaches(0, 4));
+        assertTrue(index.dependsOn(3, 0));
+        assertFalse(index.dependsOn(0, 3));
+    }
+
+    // Test closure against BFS with more components than one column block
+    @Test
+    public void testClosureMatchesBfs() {
+        Graph graph = BenchmarkGraphs.clusteredGraph(1_500, 2, 1, 4_000, 5, 21L);
+        CondensationGraph condensation = TestGraphs.condense(graph);
+        TransitiveClosureIndex index = new TransitiveClosureIndex(condensation);
+
+        assertEquals(1_500, condensation.getComponentCount());
+        assertMatchesBfs(graph, index, 40, 1L);
+        assertTrue(index.getMemoryBytes() >= 1_500L * 1_500 / 8);
+        assertTrue(index.getBuildMetrics().getOperations() > 0);
+    }
+
+    // Test vertices outside the graph are rejected
+    @Test(expected = IllegalArgumentException.class)
+    public void testUnknownVertex() {
+        new TransitiveClosureIndex(TestGraphs.condense(new Graph(2, true))).reaches(0, 2);
+    }
+
+    // Test GRAIL labels agree with BFS and with the full closure
+    @Test
+    public void testGrailMatchesBfs() {
+        Graph graph = BenchmarkGraphs.clusteredGraph(2_000, 3, 2, 5_000, 5, 8L);
+        CondensationGraph condensation = TestGraphs.condense(graph);
+        GrailIndex grail = new GrailIndex(condensation);
+        TransitiveClosureIndex closure = new TransitiveClosureIndex(condensation);
+
+        assertMatchesBfs(graph, grail, 30, 2L);
+        Random random = new Random(3);
+        for (int q = 0; q < 20_000; q++) {
+            int a = random.nextInt(2_000);
+            int b = random.nextInt(2_000);
+            assertEquals(closure.componentReaches(a, b), grail.componentReaches(a, b));
+        }
+        assertTrue(grail.getMemoryBytes() < closure.getMemoryBytes());
+    }
+
+    // Test a single traversal is still exact on a random DAG
+    @Test
+    public void testGrailSingleTraversal() {
+        Graph graph = BenchmarkGraphs.randomDag(400, 1_200, 3, 4L);
+        GrailIndex grail = new GrailIndex(TestGraphs.condense(graph), 1, 99L);
+
+        assertMatchesBfs(graph, grail, 50, 5L);
+    }
+
+    // Test an index queried from this thread can still be garbage collected
+    @Test
+    public void testGrailNotRetainedByThread() throws Exception {
+        Graph graph = BenchmarkGraphs.randomDag(400, 1_200, 3, 6L);
+        GrailIndex grail = new GrailIndex(TestGraphs.condense(graph), 1, 3L);
+        assertMatchesBfs(graph, grail, 20, 7L);
+        WeakReference<GrailIndex> reference = new WeakReference<>(grail);
+        grail = null;
+
+        for (int i = 0; i < 50 && reference.get() != null; i++) {
+            System.gc();
+            Thread.sleep(10);
+        }
+        assertNull(reference.get());
+    }
+}
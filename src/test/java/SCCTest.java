@@ -146,4 +146,53 @@ public class SCCTest {
         assertTrue(result.getMetrics().getOperations() > 0);
         assertTrue(result.getMetrics().getElapsedNanos() > 0);
     }
-}
\ No newline at end of file
+
+    // Test a long chain does not overflow the thread stack
+    @Test
+    public void testLongChainIsStackSafe() {
+        int n = 500_000;
+        Graph graph = new Graph(n, true);
+        for (int i = 0; i + 1 < n; i++) {
+            graph.addEdge(i, i + 1, 1);
+        }
+
+        SCC.SCCResult result = new SCC(graph).computeSCCs();
+
+        assertEquals(n, result.getComponents().size());
+        // Tarjan emits components in reverse topological order
+        assertEquals(Integer.valueOf(n - 1), result.getComponents().get(0).get(0));
+        assertEquals(Integer.valueOf(0), result.getComponents().get(n - 1).get(0));
+    }
+
+    // Test a long cycle collapses into a single component
+    @Test
+    public void testLongCycle() {
+        int n = 500_000;
+        Graph graph = new Graph(n, true);
+        for (int i = 0; i < n; i++) {
+            graph.addEdge(i, (i + 1) % n, 1);
+        }
+
+        SCC.SCCResult result = new SCC(graph).computeSCCs();
+
+        assertEquals(1, result.getComponents().size());
+        assertEquals(n, result.getComponents().get(0).size());
+    }
+
+    // Test component emission order on nested cycles
+    @Test
+    public void testComponentOrder() {
+        Graph graph = new Graph(6, true);
+        graph.addEdge(0, 1, 1);
+        graph.addEdge(1, 0, 1);
+        graph.addEdge(1, 2, 1);
+        graph.addEdge(2, 3, 1);
+        graph.addEdge(3, 4, 1);
+        graph.addEdge(4, 2, 1);
+        graph.addEdge(0, 5, 1);
+
+        List<List<Integer>> components = new SCC(graph).computeSCCs().getComponents();
+
+        assertEquals(List.of(List.of(2, 3, 4), List.of(5), List.of(0, 1)), components);
+    }
+}
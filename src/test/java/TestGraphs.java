@@ -0,0 +1,16 @@
+import com.algorithms.CondensationGraph;
+import com.algorithms.SCC;
+import com.model.Graph;
+
+/**
+ * Fixtures shared by the tests that work on a condensation.
+ */
+final class TestGraphs {
+
+    private TestGraphs() {
+    }
+
+    static CondensationGraph condense(Graph graph) {
+        return new CondensationGraph(graph, new SCC(graph).computeSCCs().getComponents());
+    }
+}